@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Compares throughput and p99 latency of platform-thread and virtual-thread mode at 1k, 5k and 10k clients.
+# Needs docker compose, k6 and jq on the PATH. Seed some trainers first (POST /api/trainers/bulk) for useful numbers.
+# Raise the client's open-file limit (ulimit -n) above the largest client count before running.
+# Status: the comparison has not been run yet, so there are no recorded numbers. The virtual-thread default and the
+# trainers.db-gate permits are unmeasured until it has been run on a production-like host.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+BASE_URL=${BASE_URL:-http://localhost:9000}
+DURATION=${DURATION:-60s}
+CLIENT_COUNTS=${CLIENT_COUNTS:-"1000 5000 10000"}
+RESULTS=loadtest/results
+mkdir -p "$RESULTS"
+
+wait_for_app() {
+    for _ in $(seq 1 60); do
+        curl -fs "$BASE_URL/actuator/health" > /dev/null && return 0
+        sleep 2
+    done
+    echo "application did not become healthy" >&2
+    return 1
+}
+
+for mode in platform virtual; do
+    virtual=false
+    [ "$mode" = virtual ] && virtual=true
+    TRAINERS_VIRTUAL_THREADS=$virtual docker compose up -d --build --force-recreate springboot-app
+    wait_for_app
+    for clients in $CLIENT_COUNTS; do
+        k6 run --quiet -e BASE_URL="$BASE_URL" -e CLIENTS="$clients" -e DURATION="$DURATION" \
+            --summary-export "$RESULTS/$mode-$clients.json" loadtest/trainers-read.js
+    done
+done
+
+printf '%-9s %8s %12s %10s %10s %8s\n' mode clients "req/s" "p99 ms" "max ms" "503s"
+for mode in platform virtual; do
+    for clients in $CLIENT_COUNTS; do
+        jq -r --arg mode "$mode" --arg clients "$clients" '[
+            $mode, $clients,
+            (.metrics.http_reqs.rate | floor),
+            (.metrics.http_req_duration["p(99)"] | floor),
+            (.metrics.http_req_duration.max | floor),
+            (.metrics["checks{kind:shed}"].fails // 0)
+        ] | @tsv' "$RESULTS/$mode-$clients.json" | awk '{ printf "%-9s %8s %12s %10s %10s %8s\n", $1, $2, $3, $4, $5, $6 }'
+    done
+done
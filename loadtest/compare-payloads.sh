@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Bytes on the wire and database rows read for one page of each list/search endpoint, before and after the
+# TrainerResponseDTO projections. Start a build from before the change on BEFORE_URL and the current build on
+# AFTER_URL, both against the same seeded database and otherwise idle (rows come from a process-wide counter).
+# Needs curl and jq on the PATH.
+set -euo pipefail
+
+BEFORE_URL=${BEFORE_URL:-http://localhost:9001}
+AFTER_URL=${AFTER_URL:-http://localhost:9000}
+SIZE=${SIZE:-20}
+PATHS=${PATHS:-"/api/trainers?size=$SIZE
+/api/trainers?mode=keyset&size=$SIZE
+/api/trainers/search/by-status?status=PENDING&size=$SIZE
+/api/trainers/search/experienced?minYears=0&size=$SIZE
+/api/trainers/search/available-for-travel?size=$SIZE
+/api/trainers/search/by-name?name=an&limit=$SIZE"}
+
+rows_read() {
+    curl -fs "$1/actuator/metrics/trainers.jdbc.rows.returned" | jq '.measurements[0].value'
+}
+
+# Prints "<bytes> <rows>" for one request; the first call warms caches and indexes so only the page is counted
+measure() {
+    local base=$1 path=$2 before after bytes
+    curl -fs -o /dev/null "$base$path"
+    before=$(rows_read "$base")
+    bytes=$(curl -fs -o /dev/null -w '%{size_download}' "$base$path")
+    after=$(rows_read "$base")
+    echo "$bytes $(jq -n "$after - $before")"
+}
+
+printf '%-55s %12s %12s %10s %10s\n' endpoint "bytes before" "bytes after" "rows before" "rows after"
+while IFS= read -r path; do
+    [ -z "$path" ] && continue
+    read -r before_bytes before_rows < <(measure "$BEFORE_URL" "$path")
+    read -r after_bytes after_rows < <(measure "$AFTER_URL" "$path")
+    printf '%-55s %12s %12s %10s %10s\n' "$path" "$before_bytes" "$after_bytes" "$before_rows" "$after_rows"
+done <<< "$PATHS"
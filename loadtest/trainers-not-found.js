@@ -0,0 +1,42 @@
+// k6 scenario: the routine error paths only - GET and DELETE of ids that do not exist (404) and duplicate creates (409).
+// Run against builds before and after a change to compare error-path latency and throughput.
+// Usage: k6 run -e BASE_URL=http://localhost:9000 -e CLIENTS=200 loadtest/trainers-not-found.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:9000';
+const CLIENTS = parseInt(__ENV.CLIENTS || '200', 10);
+const DURATION = __ENV.DURATION || '60s';
+const MISSING_FROM = parseInt(__ENV.MISSING_FROM || '100000000', 10);
+// The first create of this trainer succeeds (one 201 in the run); every later one is a 409
+const DUPLICATE = __ENV.DUPLICATE_BODY || JSON.stringify({
+    firstName: 'Duplicate', lastName: 'Trainer', email: __ENV.DUPLICATE_EMAIL || 'john.doe@example.com',
+    phoneNumber: '9876543210', dateOfBirth: '1990-01-01', address: '1 Main Road', city: 'Pune',
+    state: 'Maharashtra', country: 'India', postalCode: '411001', highestQualification: 'M.Tech',
+    yearsOfExperience: 5, specializations: ['Java'], previousCompany: 'Acme', availableForTravel: true,
+});
+
+export const options = {
+    scenarios: {
+        errors: {
+            executor: 'constant-vus',
+            vus: CLIENTS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const missingId = () => MISSING_FROM + Math.floor(Math.random() * 1000000);
+
+const requests = [
+    () => [http.get(`${BASE_URL}/api/trainers/${missingId()}`, { tags: { name: 'getMissing' } }), 404],
+    () => [http.del(`${BASE_URL}/api/trainers/${missingId()}`, null, { tags: { name: 'deleteMissing' } }), 404],
+    () => [http.post(`${BASE_URL}/api/trainers`, DUPLICATE,
+        { headers: { 'Content-Type': 'application/json' }, tags: { name: 'duplicateCreate' } }), 409],
+];
+
+export default function () {
+    const [response, expected] = requests[Math.floor(Math.random() * requests.length)]();
+    check(response, { 'expected error status': (r) => r.status === expected });
+}
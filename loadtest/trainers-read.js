@@ -0,0 +1,38 @@
+// k6 scenario: a mixed read workload against the trainers API at a fixed number of concurrent clients.
+// Usage: k6 run -e BASE_URL=http://localhost:9000 -e CLIENTS=1000 loadtest/trainers-read.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:9000';
+const CLIENTS = parseInt(__ENV.CLIENTS || '1000', 10);
+const DURATION = __ENV.DURATION || '60s';
+const MAX_ID = parseInt(__ENV.MAX_ID || '1000', 10);
+
+export const options = {
+    scenarios: {
+        steady: {
+            executor: 'constant-vus',
+            vus: CLIENTS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // 503 is the database gate shedding load; count it separately from real failures
+    thresholds: {
+        'checks{kind:ok}': ['rate>0'],
+        'checks{kind:shed}': ['rate>=0'],
+    },
+};
+
+const requests = [
+    () => http.get(`${BASE_URL}/api/trainers/${1 + Math.floor(Math.random() * MAX_ID)}`, { tags: { name: 'byId' } }),
+    () => http.get(`${BASE_URL}/api/trainers?mode=keyset&size=20`, { tags: { name: 'keysetPage' } }),
+    () => http.get(`${BASE_URL}/api/trainers/search/by-city?city=Pune`, { tags: { name: 'byCity' } }),
+    () => http.get(`${BASE_URL}/api/trainers/analytics/top-experienced?limit=10`, { tags: { name: 'topExperienced' } }),
+];
+
+export default function () {
+    const response = requests[Math.floor(Math.random() * requests.length)]();
+    check(response, { 'status is 2xx or 404': (r) => r.status < 300 || r.status === 404 }, { kind: 'ok' });
+    check(response, { 'not shed by gate': (r) => r.status !== 503 }, { kind: 'shed' });
+}
@@ -0,0 +1,153 @@
+package com.cts.trainers_application.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Sees every JDBC statement: records trainers.jdbc.query{type, batch, success}, counts rows written (and rows read
+// when trainers.jdbc.count-rows-returned is on), and logs a sample of the statements slower than the threshold
+// together with their bind parameters
+public class JdbcMetricsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger slowQueryLog = LoggerFactory.getLogger("trainers.slow-query");
+
+    // Large batches are cut short in the log
+    private static final int MAX_LOGGED_PARAMETER_SETS = 5;
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final long slowQueryThresholdMillis;
+    private final double slowQuerySampleRate;
+
+    // Resolved on first use: the DataSource is wrapped before the registry bean exists
+    private volatile Meters meters;
+
+    public JdbcMetricsListener(ObjectProvider<MeterRegistry> meterRegistryProvider, Duration slowQueryThreshold,
+                               double slowQuerySampleRate) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+        this.slowQuerySampleRate = slowQuerySampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Meters current = meters();
+        QueryType type = queryInfoList.isEmpty() ? QueryType.OTHER
+                : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        current.queryTimer(type, execInfo.isBatch(), execInfo.isSuccess())
+                .record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+
+        if (execInfo.getResult() instanceof Integer updated && updated > 0) {
+            current.rowsAffected.increment(updated);
+        } else if (execInfo.getResult() instanceof int[] updated) {
+            for (int count : updated) {
+                if (count > 0) {
+                    current.rowsAffected.increment(count);
+                }
+            }
+        }
+
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis
+                && ThreadLocalRandom.current().nextDouble() < slowQuerySampleRate) {
+            slowQueryLog.warn("Slow query ({} ms): {}", execInfo.getElapsedTime(), describe(queryInfoList));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    // Only registered with trainers.jdbc.count-rows-returned: rows read are counted one ResultSet.next() at a time
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            meters().rowsReturned.increment();
+        }
+    }
+
+    private Meters meters() {
+        Meters current = meters;
+        if (current == null) {
+            current = new Meters(meterRegistryProvider.getObject());
+            meters = current;
+        }
+        return current;
+    }
+
+    private static String describe(List<QueryInfo> queries) {
+        StringBuilder entry = new StringBuilder();
+        for (QueryInfo query : queries) {
+            entry.append(query.getQuery());
+            List<List<ParameterSetOperation>> parameterSets = query.getParametersList();
+            int logged = Math.min(parameterSets.size(), MAX_LOGGED_PARAMETER_SETS);
+            for (int i = 0; i < logged; i++) {
+                entry.append(" [");
+                List<ParameterSetOperation> parameters = parameterSets.get(i);
+                for (int p = 0; p < parameters.size(); p++) {
+                    Object[] args = parameters.get(p).getArgs();
+                    entry.append(p == 0 ? "" : ", ").append(args.length > 1 ? args[1] : null);
+                }
+                entry.append(']');
+            }
+            if (parameterSets.size() > logged) {
+                entry.append(" ... ").append(parameterSets.size() - logged).append(" more");
+            }
+            entry.append("; ");
+        }
+        return entry.toString();
+    }
+
+    private static final class Meters {
+        private final MeterRegistry registry;
+        private final Counter rowsReturned;
+        private final Counter rowsAffected;
+        // One timer per tag tuple, registered on first use instead of looked up per statement
+        private final ConcurrentMap<TimerKey, Timer> queryTimers = new ConcurrentHashMap<>();
+
+        private Meters(MeterRegistry registry) {
+            this.registry = registry;
+            this.rowsReturned = Counter.builder("trainers.jdbc.rows.returned")
+                    .description("Rows read from JDBC result sets")
+                    .register(registry);
+            this.rowsAffected = Counter.builder("trainers.jdbc.rows.affected")
+                    .description("Rows inserted, updated or deleted")
+                    .register(registry);
+        }
+
+        private Timer queryTimer(QueryType type, boolean batch, boolean success) {
+            return queryTimers.computeIfAbsent(new TimerKey(type, batch, success),
+                    key -> Timer.builder("trainers.jdbc.query")
+                            .description("JDBC statement execution time")
+                            .tag("type", key.type().name().toLowerCase(Locale.ROOT))
+                            .tag("batch", Boolean.toString(key.batch()))
+                            .tag("success", Boolean.toString(key.success()))
+                            .register(registry));
+        }
+    }
+
+    private record TimerKey(QueryType type, boolean batch, boolean success) {}
+}
@@ -0,0 +1,51 @@
+package com.cts.trainers_application.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Routes every statement through JdbcMetricsListener by wrapping the DataSource in a datasource-proxy.
+// The proxy unwraps to the Hikari pool, so hikaricp.* pool metrics (including connection wait time) still bind.
+@Component
+public class JdbcMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Duration slowQueryThreshold;
+    private final double slowQuerySampleRate;
+    private final boolean countRowsReturned;
+
+    @Autowired
+    public JdbcMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                    @Value("${trainers.jdbc.slow-query.threshold:250ms}") Duration slowQueryThreshold,
+                                    @Value("${trainers.jdbc.slow-query.sample-rate:0.1}") double slowQuerySampleRate,
+                                    @Value("${trainers.jdbc.count-rows-returned:false}") boolean countRowsReturned) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.slowQueryThreshold = slowQueryThreshold;
+        this.slowQuerySampleRate = slowQuerySampleRate;
+        this.countRowsReturned = countRowsReturned;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            JdbcMetricsListener listener = new JdbcMetricsListener(meterRegistryProvider, slowQueryThreshold,
+                    slowQuerySampleRate);
+            ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(listener);
+            // Counting rows read means a proxy hop per JDBC call and ResultSet.next(), so it is opt-in
+            if (countRowsReturned) {
+                builder.methodListener(listener).proxyResultSet();
+            }
+            return builder.build();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,48 @@
+package com.cts.trainers_application.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import java.time.Duration;
+
+// Opt-in virtual-thread mode (spring.threads.virtual.enabled=true): Tomcat serves every request on its own
+// virtual thread, and the database gate keeps the now-unbounded concurrency queued in front of the pool
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig implements WebMvcConfigurer {
+
+    private final DatabaseConcurrencyGate databaseConcurrencyGate;
+
+    @Autowired
+    public VirtualThreadConfig(
+            @Value("${trainers.db-gate.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+            @Value("${trainers.db-gate.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.databaseConcurrencyGate = new DatabaseConcurrencyGate(permits, acquireTimeout);
+    }
+
+    @Bean
+    public DatabaseConcurrencyGate databaseConcurrencyGate(MeterRegistry meterRegistry) {
+        Gauge.builder("trainers.db.gate.available", databaseConcurrencyGate, DatabaseConcurrencyGate::getAvailablePermits)
+                .description("Free database gate permits")
+                .register(meterRegistry);
+        Gauge.builder("trainers.db.gate.queued", databaseConcurrencyGate, DatabaseConcurrencyGate::getQueueLength)
+                .description("Requests waiting for a database gate permit")
+                .register(meterRegistry);
+        return databaseConcurrencyGate;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Exports and event streams stay open for minutes; exports borrow a connection per chunk only
+        // and event streams never touch the database
+        registry.addInterceptor(databaseConcurrencyGate)
+                .addPathPatterns("/api/trainers/**")
+                .excludePathPatterns("/api/trainers/export", "/api/trainers/events", "/api/trainers/greet");
+    }
+}
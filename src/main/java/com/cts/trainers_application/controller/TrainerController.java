@@ -1,19 +1,49 @@
 package com.cts.trainers_application.controller;
 
+import com.cts.trainers_application.dto.BulkImportReport;
+import com.cts.trainers_application.dto.BulkStatusTransitionReport;
+import com.cts.trainers_application.dto.BulkStatusTransitionRequest;
+import com.cts.trainers_application.dto.TrainerCursor;
+import com.cts.trainers_application.dto.TrainerResponseDTO;
+import com.cts.trainers_application.dto.TrainerSearchRequest;
+import com.cts.trainers_application.dto.TrainerSearchResult;
+import com.cts.trainers_application.dto.TrainerStatusChange;
 import com.cts.trainers_application.entity.ApplicationStatus;
 import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.exception.TrainerVersionMismatchException;
+import com.cts.trainers_application.repository.TrainerSortKey;
+import com.cts.trainers_application.repository.TrainerSpecifications;
+import com.cts.trainers_application.service.IdempotencyStore;
+import com.cts.trainers_application.service.TrainerBulkImportService;
+import com.cts.trainers_application.service.TrainerEventBroadcaster;
+import com.cts.trainers_application.service.TrainerExportService;
+import com.cts.trainers_application.service.TrainerSearchService;
 import com.cts.trainers_application.service.TrainerService;
+import com.cts.trainers_application.service.TrainerStatusTransitionService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/trainers")
@@ -21,40 +51,88 @@ import java.util.Map;
 public class TrainerController {
 
     private final TrainerService trainerService;
+    private final TrainerExportService trainerExportService;
+    private final TrainerBulkImportService trainerBulkImportService;
+    private final TrainerSearchService trainerSearchService;
+    private final TrainerEventBroadcaster trainerEventBroadcaster;
+    private final TrainerStatusTransitionService trainerStatusTransitionService;
+    private final IdempotencyStore idempotencyStore;
 
     @Autowired
-    public TrainerController(TrainerService trainerService) {
+    public TrainerController(TrainerService trainerService,
+                             TrainerExportService trainerExportService,
+                             TrainerBulkImportService trainerBulkImportService,
+                             TrainerSearchService trainerSearchService,
+                             TrainerEventBroadcaster trainerEventBroadcaster,
+                             TrainerStatusTransitionService trainerStatusTransitionService,
+                             IdempotencyStore idempotencyStore) {
         this.trainerService = trainerService;
+        this.trainerExportService = trainerExportService;
+        this.trainerBulkImportService = trainerBulkImportService;
+        this.trainerSearchService = trainerSearchService;
+        this.trainerEventBroadcaster = trainerEventBroadcaster;
+        this.trainerStatusTransitionService = trainerStatusTransitionService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     // CREATE - POST /api/trainers
     @PostMapping
-    public ResponseEntity<ApiResponse<Trainer>> createTrainer(@Valid @RequestBody Trainer trainer) {
+    // With an Idempotency-Key, a retry of the same body replays the first response instead of inserting again
+    public ResponseEntity<ApiResponse<Trainer>> createTrainer(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody Trainer trainer) {
+        if (idempotencyKey == null) {
+            return create(trainer);
+        }
+        return idempotencyStore.execute("POST /api/trainers", idempotencyKey, trainer, () -> create(trainer));
+    }
+
+    private ResponseEntity<ApiResponse<Trainer>> create(Trainer trainer) {
         Trainer createdTrainer = trainerService.createTrainer(trainer);
         ApiResponse<Trainer> response = new ApiResponse<>(
                 true,
                 "Trainer application submitted successfully",
                 createdTrainer
         );
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(eTagOf(createdTrainer.getId(), createdTrainer.getVersion())).body(response);
+    }
+
+    // CREATE - POST /api/trainers/bulk (JSON array or NDJSON stream)
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public ResponseEntity<ApiResponse<BulkImportReport>> bulkCreateTrainers(InputStream payload) {
+        BulkImportReport report = trainerBulkImportService.importTrainers(payload);
+        ApiResponse<BulkImportReport> response = new ApiResponse<>(
+                true,
+                "Bulk import processed: " + report.created() + " of " + report.received() + " trainers created",
+                report
+        );
+        return ResponseEntity.ok(response);
     }
 
     // READ - GET /api/trainers
+    // mode=keyset (or any cursor) switches from OFFSET paging to seek paging
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Trainer>>> getAllTrainers(
+    public ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> getAllTrainers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
-
-        Sort sort = sortDir.equalsIgnoreCase("desc") ?
-                Sort.by(sortBy).descending() :
-                Sort.by(sortBy).ascending();
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "offset") String mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields) {
+
+        Class<?> view = TrainerFieldsAdvice.viewFor(fields);
+        if (cursor != null || mode.equalsIgnoreCase("keyset")) {
+            return getTrainersByKeyset(size, sortBy, sortDir.equalsIgnoreCase("desc"), cursor, includeTotal, view);
+        }
 
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Trainer> trainersPage = trainerService.getAllTrainers(pageable);
+        // Only index-backed keys are sortable; id is always appended as a tiebreaker
+        TrainerSortKey sortKey = TrainerSortKey.fromProperty(sortBy);
+        Pageable pageable = PageRequest.of(page, size, sortKey.toSort(sortDir.equalsIgnoreCase("desc")));
+        Page<TrainerResponseDTO> trainersPage = trainerService.getAllTrainers(pageable, view);
 
-        ApiResponse<List<Trainer>> response = new ApiResponse<>(
+        ApiResponse<List<TrainerResponseDTO>> response = new ApiResponse<>(
                 true,
                 "Trainers retrieved successfully",
                 trainersPage.getContent(),
@@ -69,6 +147,35 @@ public class TrainerController {
         return ResponseEntity.ok(response);
     }
 
+    private ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> getTrainersByKeyset(
+            int size, String sortBy, boolean descending, String cursor, boolean includeTotal, Class<?> view) {
+        // A cursor carries its own sort key and direction so every page continues the same walk
+        TrainerCursor after = cursor == null ? null : TrainerCursor.decode(cursor);
+        TrainerSortKey sortKey = after != null ? after.sortKey() : TrainerSortKey.fromProperty(sortBy);
+        boolean desc = after != null ? after.descending() : descending;
+
+        Slice<TrainerResponseDTO> trainersSlice = trainerService.getTrainersAfter(after, sortKey, desc, size, view);
+        List<TrainerResponseDTO> trainers = trainersSlice.getContent();
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("size", trainersSlice.getSize());
+        metadata.put("hasNext", trainersSlice.hasNext());
+        if (trainersSlice.hasNext()) {
+            metadata.put("nextCursor", TrainerCursor.after(sortKey, desc, trainers.get(trainers.size() - 1)).encode());
+        }
+        if (includeTotal) {
+            metadata.put("totalElements", trainerService.countTrainers());
+        }
+
+        ApiResponse<List<TrainerResponseDTO>> response = new ApiResponse<>(
+                true,
+                "Trainers retrieved successfully",
+                trainers,
+                metadata
+        );
+        return ResponseEntity.ok(response);
+    }
+
     // READ - GET /api/trainers/{id}
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Trainer>> getTrainerById(@PathVariable Long id) {
@@ -78,7 +185,7 @@ public class TrainerController {
                 "Trainer retrieved successfully",
                 trainer
         );
-        return ResponseEntity.ok(response);
+        return conditional(trainer).body(response);
     }
 
     // READ - GET /api/trainers/email/{email}
@@ -90,41 +197,59 @@ public class TrainerController {
                 "Trainer retrieved successfully",
                 trainer
         );
-        return ResponseEntity.ok(response);
+        return conditional(trainer).body(response);
     }
 
     // UPDATE - PUT /api/trainers/{id}
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Trainer>> updateTrainer(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody Trainer trainer) {
-        Trainer updatedTrainer = trainerService.updateTrainer(id, trainer);
+        Trainer updatedTrainer = trainerService.updateTrainer(id, trainer, versionOf(id, ifMatch));
         ApiResponse<Trainer> response = new ApiResponse<>(
                 true,
                 "Trainer updated successfully",
                 updatedTrainer
         );
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(eTagOf(updatedTrainer.getId(), updatedTrainer.getVersion())).body(response);
     }
 
     // UPDATE - PATCH /api/trainers/{id}/status
     @PatchMapping("/{id}/status")
-    public ResponseEntity<ApiResponse<Trainer>> updateApplicationStatus(
+    public ResponseEntity<ApiResponse<TrainerStatusChange>> updateApplicationStatus(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestParam ApplicationStatus status) {
-        Trainer updatedTrainer = trainerService.updateApplicationStatus(id, status);
-        ApiResponse<Trainer> response = new ApiResponse<>(
+        TrainerStatusChange change = trainerService.updateApplicationStatus(id, status, versionOf(id, ifMatch));
+        ApiResponse<TrainerStatusChange> response = new ApiResponse<>(
                 true,
                 "Application status updated successfully",
-                updatedTrainer
+                change
+        );
+        return ResponseEntity.ok().eTag(eTagOf(change.id(), change.version())).body(response);
+    }
+
+    // UPDATE - PATCH /api/trainers/status/bulk (ids or a search filter)
+    @PatchMapping("/status/bulk")
+    public ResponseEntity<ApiResponse<BulkStatusTransitionReport>> bulkUpdateApplicationStatus(
+            @Valid @RequestBody BulkStatusTransitionRequest request) {
+        BulkStatusTransitionReport report = trainerStatusTransitionService.transition(request);
+        ApiResponse<BulkStatusTransitionReport> response = new ApiResponse<>(
+                true,
+                "Bulk status transition completed: " + report.updated() + " updated, "
+                        + report.notAllowed() + " not allowed",
+                report
         );
         return ResponseEntity.ok(response);
     }
 
     // DELETE - DELETE /api/trainers/{id}
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<String>> deleteTrainer(@PathVariable Long id) {
-        trainerService.deleteTrainer(id);
+    public ResponseEntity<ApiResponse<String>> deleteTrainer(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        trainerService.deleteTrainer(id, versionOf(id, ifMatch));
         ApiResponse<String> response = new ApiResponse<>(
                 true,
                 "Trainer deleted successfully",
@@ -133,53 +258,108 @@ public class TrainerController {
         return ResponseEntity.ok(response);
     }
 
+    // EXPORT - GET /api/trainers/export?format=ndjson|csv
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTrainers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        TrainerExportService.Format exportFormat = TrainerExportService.Format.from(format);
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream);
+                trainerExportService.export(exportFormat, gzipStream);
+                gzipStream.finish();
+            } else {
+                trainerExportService.export(exportFormat, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"trainers." + exportFormat.getFileExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    // EVENTS - GET /api/trainers/events (SSE stream of committed changes)
+    // EventSource clients resume via the Last-Event-ID header; others can pass lastEventId instead
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTrainerEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+        return trainerEventBroadcaster.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+    }
+
     // SEARCH AND FILTER ENDPOINTS
 
-    // GET /api/trainers/search/by-status
-    @GetMapping("/search/by-status")
-    public ResponseEntity<ApiResponse<List<Trainer>>> getTrainersByStatus(
-            @RequestParam ApplicationStatus status) {
-        List<Trainer> trainers = trainerService.getTrainersByStatus(status);
-        ApiResponse<List<Trainer>> response = new ApiResponse<>(
+    // POST /api/trainers/search (combined filters, paginated, with facet counts)
+    @PostMapping("/search")
+    public ResponseEntity<ApiResponse<TrainerSearchResult>> searchTrainers(
+            @Valid @RequestBody TrainerSearchRequest request,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields) {
+        TrainerSearchResult result = trainerSearchService.search(request, TrainerFieldsAdvice.viewFor(fields));
+        ApiResponse<TrainerSearchResult> response = new ApiResponse<>(
                 true,
-                "Trainers filtered by status successfully",
-                trainers
+                "Trainers searched successfully",
+                result
         );
         return ResponseEntity.ok(response);
     }
 
+    // GET /api/trainers/search/by-status
+    @GetMapping("/search/by-status")
+    public ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> getTrainersByStatus(
+            @RequestParam ApplicationStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields) {
+        Class<?> view = TrainerFieldsAdvice.viewFor(fields);
+        return searchResponse("Trainers filtered by status successfully", TrainerSpecifications.hasStatus(status),
+                pageable -> trainerService.getTrainersByStatus(status, pageable, view), page, size, cursor, view);
+    }
+
     // GET /api/trainers/search/experienced
     @GetMapping("/search/experienced")
-    public ResponseEntity<ApiResponse<List<Trainer>>> getExperiencedTrainers(
-            @RequestParam(defaultValue = "5") Integer minYears) {
-        List<Trainer> trainers = trainerService.getExperiencedTrainers(minYears);
-        ApiResponse<List<Trainer>> response = new ApiResponse<>(
-                true,
-                "Experienced trainers retrieved successfully",
-                trainers
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> getExperiencedTrainers(
+            @RequestParam(defaultValue = "5") Integer minYears,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields) {
+        Class<?> view = TrainerFieldsAdvice.viewFor(fields);
+        return searchResponse("Experienced trainers retrieved successfully",
+                TrainerSpecifications.experienceAtLeast(minYears),
+                pageable -> trainerService.getExperiencedTrainers(minYears, pageable, view), page, size, cursor, view);
     }
 
     // GET /api/trainers/search/by-city
     @GetMapping("/search/by-city")
-    public ResponseEntity<ApiResponse<List<Trainer>>> getTrainersByCity(
-            @RequestParam String city) {
-        List<Trainer> trainers = trainerService.getTrainersByCity(city);
-        ApiResponse<List<Trainer>> response = new ApiResponse<>(
-                true,
-                "Trainers filtered by city successfully",
-                trainers
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> getTrainersByCity(
+            @RequestParam String city,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields) {
+        Class<?> view = TrainerFieldsAdvice.viewFor(fields);
+        return searchResponse("Trainers filtered by city successfully", TrainerSpecifications.inCityIgnoreCase(city),
+                pageable -> trainerService.getTrainersByCity(city, pageable, view), page, size, cursor, view);
     }
 
     // GET /api/trainers/search/by-name
     @GetMapping("/search/by-name")
-    public ResponseEntity<ApiResponse<List<Trainer>>> searchTrainersByName(
-            @RequestParam String name) {
-        List<Trainer> trainers = trainerService.searchTrainersByName(name);
-        ApiResponse<List<Trainer>> response = new ApiResponse<>(
+    public ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> searchTrainersByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields) {
+        List<TrainerResponseDTO> trainers = trainerService.searchTrainersByName(name, fuzzy, limit,
+                TrainerFieldsAdvice.viewFor(fields));
+        ApiResponse<List<TrainerResponseDTO>> response = new ApiResponse<>(
                 true,
                 "Trainers searched by name successfully",
                 trainers
@@ -189,10 +369,15 @@ public class TrainerController {
 
     // GET /api/trainers/search/by-specializations
     @GetMapping("/search/by-specializations")
-    public ResponseEntity<ApiResponse<List<Trainer>>> getTrainersBySpecializations(
-            @RequestParam List<String> specializations) {
-        List<Trainer> trainers = trainerService.getTrainersBySpecializations(specializations);
-        ApiResponse<List<Trainer>> response = new ApiResponse<>(
+    public ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> getTrainersBySpecializations(
+            @RequestParam List<String> specializations,
+            @RequestParam(defaultValue = "any") String match,
+            @RequestParam(required = false) Integer minMatches,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields) {
+        List<TrainerResponseDTO> trainers = trainerService.getTrainersBySpecializations(specializations, match, minMatches,
+                limit, TrainerFieldsAdvice.viewFor(fields));
+        ApiResponse<List<TrainerResponseDTO>> response = new ApiResponse<>(
                 true,
                 "Trainers filtered by specializations successfully",
                 trainers
@@ -202,27 +387,58 @@ public class TrainerController {
 
     // GET /api/trainers/search/by-salary-range
     @GetMapping("/search/by-salary-range")
-    public ResponseEntity<ApiResponse<List<Trainer>>> getTrainersBySalaryRange(
+    public ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> getTrainersBySalaryRange(
             @RequestParam Double minSalary,
-            @RequestParam Double maxSalary) {
-        List<Trainer> trainers = trainerService.getTrainersBySalaryRange(minSalary, maxSalary);
-        ApiResponse<List<Trainer>> response = new ApiResponse<>(
-                true,
-                "Trainers filtered by salary range successfully",
-                trainers
-        );
-        return ResponseEntity.ok(response);
+            @RequestParam Double maxSalary,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields) {
+        Class<?> view = TrainerFieldsAdvice.viewFor(fields);
+        return searchResponse("Trainers filtered by salary range successfully",
+                TrainerSpecifications.salaryBetween(minSalary, maxSalary),
+                pageable -> trainerService.getTrainersBySalaryRange(minSalary, maxSalary, pageable, view),
+                page, size, cursor, view);
     }
 
     // GET /api/trainers/search/available-for-travel
     @GetMapping("/search/available-for-travel")
-    public ResponseEntity<ApiResponse<List<Trainer>>> getTrainersAvailableForTravel() {
-        List<Trainer> trainers = trainerService.getTrainersAvailableForTravel();
-        ApiResponse<List<Trainer>> response = new ApiResponse<>(
-                true,
-                "Trainers available for travel retrieved successfully",
-                trainers
-        );
+    public ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> getTrainersAvailableForTravel(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields) {
+        Class<?> view = TrainerFieldsAdvice.viewFor(fields);
+        return searchResponse("Trainers available for travel retrieved successfully",
+                TrainerSpecifications.availableForTravel(),
+                pageable -> trainerService.getTrainersAvailableForTravel(pageable, view), page, size, cursor, view);
+    }
+
+    // /search/* results come one bounded page at a time: page/size (a Slice, so no COUNT) or the nextCursor of
+    // the previous page, which continues by seek instead of OFFSET
+    private ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> searchResponse(
+            String message, Specification<Trainer> filter, Function<Pageable, Slice<TrainerResponseDTO>> finder,
+            int page, int size, String cursor, Class<?> view) {
+        TrainerCursor after = cursor == null ? null : TrainerCursor.decode(cursor);
+        Slice<TrainerResponseDTO> trainersSlice = after != null
+                ? trainerService.searchTrainersAfter(filter, after, size, view)
+                : finder.apply(TrainerService.searchPage(page, size));
+        List<TrainerResponseDTO> trainers = trainersSlice.getContent();
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        if (after == null) {
+            metadata.put("currentPage", page);
+        }
+        metadata.put("size", size);
+        metadata.put("hasNext", trainersSlice.hasNext());
+        if (trainersSlice.hasNext()) {
+            // Page results are ordered by id, so either kind of page can hand over to a cursor
+            TrainerSortKey sortKey = after != null ? after.sortKey() : TrainerSortKey.ID;
+            boolean desc = after != null && after.descending();
+            metadata.put("nextCursor", TrainerCursor.after(sortKey, desc, trainers.get(trainers.size() - 1)).encode());
+        }
+
+        ApiResponse<List<TrainerResponseDTO>> response = new ApiResponse<>(true, message, trainers, metadata);
         return ResponseEntity.ok(response);
     }
 
@@ -230,102 +446,135 @@ public class TrainerController {
 
     // GET /api/trainers/analytics/status-statistics
     @GetMapping("/analytics/status-statistics")
-    public ResponseEntity<ApiResponse<Map<ApplicationStatus, Long>>> getApplicationStatusStatistics() {
-        Map<ApplicationStatus, Long> statistics = trainerService.getApplicationStatusStatistics();
-        ApiResponse<Map<ApplicationStatus, Long>> response = new ApiResponse<>(
-                true,
-                "Application status statistics retrieved successfully",
-                statistics
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<Map<ApplicationStatus, Long>>> getApplicationStatusStatistics(
+            WebRequest request) {
+        return aggregate(request, "Application status statistics retrieved successfully",
+                trainerService::getApplicationStatusStatistics);
     }
 
     // GET /api/trainers/analytics/city-statistics
     @GetMapping("/analytics/city-statistics")
-    public ResponseEntity<ApiResponse<Map<String, Long>>> getCityStatistics() {
-        Map<String, Long> statistics = trainerService.getCityStatistics();
-        ApiResponse<Map<String, Long>> response = new ApiResponse<>(
-                true,
-                "City statistics retrieved successfully",
-                statistics
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getCityStatistics(WebRequest request) {
+        return aggregate(request, "City statistics retrieved successfully",
+                trainerService::getCityStatistics);
     }
 
     // GET /api/trainers/analytics/experience-statistics
     @GetMapping("/analytics/experience-statistics")
-    public ResponseEntity<ApiResponse<Map<Integer, Long>>> getExperienceStatistics() {
-        Map<Integer, Long> statistics = trainerService.getExperienceStatistics();
-        ApiResponse<Map<Integer, Long>> response = new ApiResponse<>(
-                true,
-                "Experience statistics retrieved successfully",
-                statistics
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<Map<Integer, Long>>> getExperienceStatistics(WebRequest request) {
+        return aggregate(request, "Experience statistics retrieved successfully",
+                trainerService::getExperienceStatistics);
     }
 
     // GET /api/trainers/analytics/top-experienced
     @GetMapping("/analytics/top-experienced")
-    public ResponseEntity<ApiResponse<List<Trainer>>> getTopExperiencedTrainers(
-            @RequestParam(defaultValue = "10") int limit) {
-        List<Trainer> trainers = trainerService.getTopExperiencedTrainers(limit);
-        ApiResponse<List<Trainer>> response = new ApiResponse<>(
-                true,
-                "Top experienced trainers retrieved successfully",
-                trainers
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> getTopExperiencedTrainers(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields,
+            WebRequest request) {
+        Class<?> view = TrainerFieldsAdvice.viewFor(fields);
+        return aggregate(request, "Top experienced trainers retrieved successfully",
+                () -> trainerService.getTopExperiencedTrainers(offset, limit, view));
     }
 
     // GET /api/trainers/analytics/recent-applications
+    // Not tagged with the write generation: the window moves with the clock even when nothing is written
     @GetMapping("/analytics/recent-applications")
-    public ResponseEntity<ApiResponse<List<Trainer>>> getRecentApplications(
-            @RequestParam(defaultValue = "30") int days) {
-        List<Trainer> trainers = trainerService.getRecentApplications(days);
-        ApiResponse<List<Trainer>> response = new ApiResponse<>(
+    public ResponseEntity<ApiResponse<List<TrainerResponseDTO>>> getRecentApplications(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(value = TrainerFieldsAdvice.FIELDS_PARAM, required = false) String fields) {
+        Slice<TrainerResponseDTO> trainersSlice = trainerService.getRecentApplications(days, page, size,
+                TrainerFieldsAdvice.viewFor(fields));
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("currentPage", page);
+        metadata.put("size", size);
+        metadata.put("hasNext", trainersSlice.hasNext());
+
+        ApiResponse<List<TrainerResponseDTO>> response = new ApiResponse<>(
                 true,
                 "Recent applications retrieved successfully",
-                trainers
+                trainersSlice.getContent(),
+                metadata
         );
         return ResponseEntity.ok(response);
     }
 
     // GET /api/trainers/analytics/average-salary
     @GetMapping("/analytics/average-salary")
-    public ResponseEntity<ApiResponse<Double>> getAverageSalaryExpectation() {
-        Double averageSalary = trainerService.getAverageSalaryExpectation();
-        ApiResponse<Double> response = new ApiResponse<>(
-                true,
-                "Average salary expectation retrieved successfully",
-                averageSalary
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<Double>> getAverageSalaryExpectation(WebRequest request) {
+        return aggregate(request, "Average salary expectation retrieved successfully",
+                trainerService::getAverageSalaryExpectation);
     }
 
     // UTILITY ENDPOINTS
 
     // GET /api/trainers/cities
     @GetMapping("/cities")
-    public ResponseEntity<ApiResponse<List<String>>> getAllCities() {
-        List<String> cities = trainerService.getAllCities();
-        ApiResponse<List<String>> response = new ApiResponse<>(
-                true,
-                "All cities retrieved successfully",
-                cities
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<List<String>>> getAllCities(WebRequest request) {
+        return aggregate(request, "All cities retrieved successfully",
+                trainerService::getAllCities);
     }
 
     // GET /api/trainers/states
     @GetMapping("/states")
-    public ResponseEntity<ApiResponse<List<String>>> getAllStates() {
-        List<String> states = trainerService.getAllStates();
-        ApiResponse<List<String>> response = new ApiResponse<>(
-                true,
-                "All states retrieved successfully",
-                states
-        );
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ApiResponse<List<String>>> getAllStates(WebRequest request) {
+        return aggregate(request, "All states retrieved successfully",
+                trainerService::getAllStates);
+    }
+
+    // Strong validator "<id>-<version>": the id keeps tags of different trainers apart where one URL can name
+    // several of them over time (/email/{email})
+    private static String eTagOf(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // 200 with the trainer's validators; Spring answers a matching If-None-Match / If-Modified-Since with 304
+    // before the body is serialized; a trainer cached on this node needs no query at all
+    private static ResponseEntity.BodyBuilder conditional(Trainer trainer) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTagOf(trainer.getId(), trainer.getVersion()));
+        if (trainer.getUpdatedAt() != null) {
+            builder.lastModified(trainer.getUpdatedAt().atZone(ZoneId.systemDefault()));
+        }
+        return builder;
+    }
+
+    // Views over the whole table share one validator, the write generation; a match is a 304 before the
+    // view is computed, so it costs at most the generation read instead of the view's queries and serialization
+    private <T> ResponseEntity<ApiResponse<T>> aggregate(WebRequest request, String message, Supplier<T> view) {
+        String generation = trainerService.getWriteGeneration();
+        String eTag = "\"w" + generation + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        ApiResponse<T> response = new ApiResponse<>(true, message, view.get());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(eTag)
+                .body(response);
+    }
+
+    // Version required by If-Match, or null when the header is absent or "*" (the row is known to exist by then)
+    private static Long versionOf(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        // If-Match uses strong comparison, so a weak validator never matches; nor does another trainer's tag
+        if (tag.length() > prefix.length() + 1 && tag.startsWith(prefix) && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // falls through to the mismatch below
+            }
+        }
+        throw new TrainerVersionMismatchException("If-Match " + tag + " does not match trainer " + id);
     }
 
     // API Response Wrapper Class
@@ -0,0 +1,34 @@
+package com.cts.trainers_application.controller;
+
+import com.cts.trainers_application.entity.TrainerViews;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+// Applies ?fields=summary to TrainerController responses by switching to the Summary Jackson view
+@ControllerAdvice(assignableTypes = TrainerController.class)
+public class TrainerFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String FIELDS_PARAM = "fields";
+    public static final String SUMMARY_FIELDS = "summary";
+
+    // The view a fields parameter selects; the controller passes it down so a summary never reads collections
+    public static Class<?> viewFor(String fields) {
+        return SUMMARY_FIELDS.equalsIgnoreCase(fields) ? TrainerViews.Summary.class : TrainerViews.Full.class;
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && viewFor(servletRequest.getServletRequest().getParameter(FIELDS_PARAM)) == TrainerViews.Summary.class) {
+            bodyContainer.setSerializationView(TrainerViews.Summary.class);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.cts.trainers_application.controller;
+
+import com.cts.trainers_application.controller.TrainerController.ApiResponse;
+import com.cts.trainers_application.dto.TrainerResponseDTO;
+import com.cts.trainers_application.dto.TrainerSearchRequest;
+import com.cts.trainers_application.dto.TrainerSearchResult;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.entity.TrainerViews;
+import com.cts.trainers_application.repository.TrainerSpecifications;
+import com.cts.trainers_application.service.TrainerSearchService;
+import com.cts.trainers_application.service.TrainerService;
+import com.cts.trainers_application.service.TrainerStreamService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// Read-only, non-blocking variant of the search and analytics endpoints for high fan-out clients.
+// Result sets stream as NDJSON (or SSE) with backpressure: rows are read in keyset chunks as the client drains them,
+// and no request thread is held while a slow client catches up.
+@RestController
+@RequestMapping("/api/reactive/trainers")
+@CrossOrigin(origins = "*")
+public class TrainerReactiveController {
+
+    private static final String NDJSON = MediaType.APPLICATION_NDJSON_VALUE;
+    private static final String SSE = MediaType.TEXT_EVENT_STREAM_VALUE;
+
+    private final TrainerStreamService trainerStreamService;
+    private final TrainerService trainerService;
+    private final TrainerSearchService trainerSearchService;
+
+    @Autowired
+    public TrainerReactiveController(TrainerStreamService trainerStreamService,
+                                     TrainerService trainerService,
+                                     TrainerSearchService trainerSearchService) {
+        this.trainerStreamService = trainerStreamService;
+        this.trainerService = trainerService;
+        this.trainerSearchService = trainerSearchService;
+    }
+
+    // SEARCH AND FILTER ENDPOINTS (streamed)
+
+    // GET /api/reactive/trainers/search/by-status
+    @GetMapping(value = "/search/by-status", produces = {NDJSON, SSE})
+    public Flux<Trainer> streamTrainersByStatus(@RequestParam ApplicationStatus status) {
+        return trainerStreamService.stream(TrainerSpecifications.hasStatus(status));
+    }
+
+    // GET /api/reactive/trainers/search/experienced
+    @GetMapping(value = "/search/experienced", produces = {NDJSON, SSE})
+    public Flux<Trainer> streamExperiencedTrainers(@RequestParam(defaultValue = "5") Integer minYears) {
+        return trainerStreamService.stream(TrainerSpecifications.experienceAtLeast(minYears));
+    }
+
+    // GET /api/reactive/trainers/search/by-city
+    @GetMapping(value = "/search/by-city", produces = {NDJSON, SSE})
+    public Flux<Trainer> streamTrainersByCity(@RequestParam String city) {
+        return trainerStreamService.stream(TrainerSpecifications.inCityIgnoreCase(city));
+    }
+
+    // GET /api/reactive/trainers/search/by-salary-range
+    @GetMapping(value = "/search/by-salary-range", produces = {NDJSON, SSE})
+    public Flux<Trainer> streamTrainersBySalaryRange(@RequestParam Double minSalary,
+                                                     @RequestParam Double maxSalary) {
+        return trainerStreamService.stream(TrainerSpecifications.salaryBetween(minSalary, maxSalary));
+    }
+
+    // GET /api/reactive/trainers/search/available-for-travel
+    @GetMapping(value = "/search/available-for-travel", produces = {NDJSON, SSE})
+    public Flux<Trainer> streamTrainersAvailableForTravel() {
+        return trainerStreamService.stream(TrainerSpecifications.availableForTravel());
+    }
+
+    // SEARCH AND FILTER ENDPOINTS (bounded results)
+
+    // POST /api/reactive/trainers/search
+    @PostMapping("/search")
+    public Mono<ApiResponse<TrainerSearchResult>> searchTrainers(@Valid @RequestBody TrainerSearchRequest request) {
+        return trainerStreamService.blocking(() -> trainerSearchService.search(request, TrainerViews.Full.class))
+                .map(result -> new ApiResponse<>(true, "Trainers searched successfully", result));
+    }
+
+    // GET /api/reactive/trainers/search/by-name
+    @GetMapping("/search/by-name")
+    public Mono<ApiResponse<List<TrainerResponseDTO>>> searchTrainersByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(defaultValue = "20") int limit) {
+        return trainerStreamService.blocking(() -> trainerService.searchTrainersByName(name, fuzzy, limit, TrainerViews.Full.class))
+                .map(trainers -> new ApiResponse<>(true, "Trainers searched by name successfully", trainers));
+    }
+
+    // ANALYTICS ENDPOINTS
+
+    // GET /api/reactive/trainers/analytics/status-statistics (served from in-memory counters)
+    @GetMapping("/analytics/status-statistics")
+    public Mono<ApiResponse<Map<ApplicationStatus, Long>>> getApplicationStatusStatistics() {
+        return Mono.fromSupplier(() -> new ApiResponse<>(true, "Application status statistics retrieved successfully",
+                trainerService.getApplicationStatusStatistics()));
+    }
+
+    // GET /api/reactive/trainers/analytics/city-statistics
+    @GetMapping("/analytics/city-statistics")
+    public Mono<ApiResponse<Map<String, Long>>> getCityStatistics() {
+        return Mono.fromSupplier(() -> new ApiResponse<>(true,
+                "City statistics retrieved successfully", trainerService.getCityStatistics()));
+    }
+
+    // GET /api/reactive/trainers/analytics/experience-statistics
+    @GetMapping("/analytics/experience-statistics")
+    public Mono<ApiResponse<Map<Integer, Long>>> getExperienceStatistics() {
+        return Mono.fromSupplier(() -> new ApiResponse<>(true,
+                "Experience statistics retrieved successfully", trainerService.getExperienceStatistics()));
+    }
+
+    // GET /api/reactive/trainers/analytics/average-salary
+    @GetMapping("/analytics/average-salary")
+    public Mono<ApiResponse<Double>> getAverageSalaryExpectation() {
+        return Mono.fromSupplier(() -> new ApiResponse<>(true,
+                "Average salary expectation retrieved successfully", trainerService.getAverageSalaryExpectation()));
+    }
+
+    // GET /api/reactive/trainers/analytics/top-experienced
+    @GetMapping("/analytics/top-experienced")
+    public Mono<ApiResponse<List<TrainerResponseDTO>>> getTopExperiencedTrainers(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "0") int offset) {
+        return trainerStreamService.blocking(() -> trainerService.getTopExperiencedTrainers(offset, limit, TrainerViews.Full.class))
+                .map(trainers -> new ApiResponse<>(true, "Top experienced trainers retrieved successfully", trainers));
+    }
+
+    // GET /api/reactive/trainers/analytics/recent-applications (streamed)
+    @GetMapping(value = "/analytics/recent-applications", produces = {NDJSON, SSE})
+    public Flux<Trainer> streamRecentApplications(@RequestParam(defaultValue = "30") int days) {
+        return trainerStreamService.stream(
+                TrainerSpecifications.createdSince(LocalDate.now().minusDays(days).atStartOfDay()));
+    }
+}
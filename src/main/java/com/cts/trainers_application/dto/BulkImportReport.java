@@ -0,0 +1,22 @@
+package com.cts.trainers_application.dto;
+
+import java.util.List;
+
+public record BulkImportReport(int received, long created, long duplicates, long invalid, long failed,
+                               List<BulkImportResult> results) {
+
+    public static BulkImportReport of(List<BulkImportResult> results) {
+        return new BulkImportReport(
+                results.size(),
+                count(results, BulkImportResult.Outcome.CREATED),
+                count(results, BulkImportResult.Outcome.DUPLICATE),
+                count(results, BulkImportResult.Outcome.INVALID),
+                count(results, BulkImportResult.Outcome.FAILED),
+                results
+        );
+    }
+
+    private static long count(List<BulkImportResult> results, BulkImportResult.Outcome outcome) {
+        return results.stream().filter(result -> result.outcome() == outcome).count();
+    }
+}
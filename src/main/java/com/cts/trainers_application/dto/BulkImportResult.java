@@ -0,0 +1,20 @@
+package com.cts.trainers_application.dto;
+
+// Outcome of one record of a bulk import, identified by its position in the payload
+public record BulkImportResult(int index, String email, Outcome outcome, Long id, String message) {
+
+    public enum Outcome {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    public static BulkImportResult created(int index, String email, Long id) {
+        return new BulkImportResult(index, email, Outcome.CREATED, id, null);
+    }
+
+    public static BulkImportResult rejected(int index, String email, Outcome outcome, String message) {
+        return new BulkImportResult(index, email, outcome, null, message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.cts.trainers_application.dto;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import java.util.List;
+
+public record BulkStatusTransitionReport(ApplicationStatus status, int requested, long updated, long unchanged,
+                                         long notAllowed, long notFound, List<StatusTransitionResult> results) {
+
+    public static BulkStatusTransitionReport of(ApplicationStatus status, List<StatusTransitionResult> results) {
+        return new BulkStatusTransitionReport(
+                status,
+                results.size(),
+                count(results, StatusTransitionResult.Outcome.UPDATED),
+                count(results, StatusTransitionResult.Outcome.UNCHANGED),
+                count(results, StatusTransitionResult.Outcome.NOT_ALLOWED),
+                count(results, StatusTransitionResult.Outcome.NOT_FOUND),
+                results
+        );
+    }
+
+    private static long count(List<StatusTransitionResult> results, StatusTransitionResult.Outcome outcome) {
+        return results.stream().filter(result -> result.outcome() == outcome).count();
+    }
+}
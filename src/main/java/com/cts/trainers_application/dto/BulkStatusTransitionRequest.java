@@ -0,0 +1,31 @@
+package com.cts.trainers_application.dto;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+// Body of PATCH /api/trainers/status/bulk: the target status and either explicit ids or a search filter
+public class BulkStatusTransitionRequest {
+
+    @NotNull(message = "Target status is required")
+    private ApplicationStatus status;
+
+    @Size(max = 50000, message = "At most 50000 ids per request")
+    private List<Long> ids;
+
+    // Paging fields of the filter are ignored: every match is transitioned
+    @Valid
+    private TrainerSearchRequest filter;
+
+    // Getters and Setters
+    public ApplicationStatus getStatus() { return status; }
+    public void setStatus(ApplicationStatus status) { this.status = status; }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public TrainerSearchRequest getFilter() { return filter; }
+    public void setFilter(TrainerSearchRequest filter) { this.filter = filter; }
+}
@@ -0,0 +1,5 @@
+package com.cts.trainers_application.dto;
+
+// Aggregation row: number of trainers per city
+public record CityCount(String city, Long count) {
+}
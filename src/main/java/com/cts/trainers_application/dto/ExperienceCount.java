@@ -0,0 +1,5 @@
+package com.cts.trainers_application.dto;
+
+// Aggregation row: number of trainers per exact years of experience
+public record ExperienceCount(Integer yearsOfExperience, Long count) {
+}
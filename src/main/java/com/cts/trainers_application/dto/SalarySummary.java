@@ -0,0 +1,5 @@
+package com.cts.trainers_application.dto;
+
+// Aggregation row: sum and count of the non-null salary expectations
+public record SalarySummary(Double total, Long count) {
+}
@@ -0,0 +1,5 @@
+package com.cts.trainers_application.dto;
+
+// One trainer_skills row
+public record SkillLink(Long trainerId, Integer skillId) {
+}
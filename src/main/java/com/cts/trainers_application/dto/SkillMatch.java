@@ -0,0 +1,5 @@
+package com.cts.trainers_application.dto;
+
+// A trainer and how many of the requested skills they have
+public record SkillMatch(Long trainerId, int matchedSkills) {
+}
@@ -0,0 +1,7 @@
+package com.cts.trainers_application.dto;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+
+// Aggregation row: number of trainers per application status
+public record StatusCount(ApplicationStatus status, Long count) {
+}
@@ -0,0 +1,29 @@
+package com.cts.trainers_application.dto;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+
+// Outcome of a bulk status transition for one trainer
+public record StatusTransitionResult(Long id, Outcome outcome, ApplicationStatus previousStatus,
+                                     ApplicationStatus applicationStatus, Long version) {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_ALLOWED,
+        NOT_FOUND
+    }
+
+    public static StatusTransitionResult updated(Long id, ApplicationStatus previousStatus,
+                                                 ApplicationStatus status, Long version) {
+        return new StatusTransitionResult(id, Outcome.UPDATED, previousStatus, status, version);
+    }
+
+    // Left as it was: already in the target status, or the transition table forbids the move
+    public static StatusTransitionResult skipped(Long id, Outcome outcome, ApplicationStatus status, Long version) {
+        return new StatusTransitionResult(id, outcome, status, status, version);
+    }
+
+    public static StatusTransitionResult notFound(Long id) {
+        return new StatusTransitionResult(id, Outcome.NOT_FOUND, null, null, null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.cts.trainers_application.dto;
+
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import com.cts.trainers_application.repository.TrainerSortKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque keyset position: the sort key, direction and the (value, id) of the last row returned
+public record TrainerCursor(TrainerSortKey sortKey, boolean descending, Comparable<?> value, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TrainerCursor after(TrainerSortKey sortKey, boolean descending, TrainerResponseDTO lastRow) {
+        return new TrainerCursor(sortKey, descending, sortKey.valueOf(lastRow), lastRow.getId());
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + SEPARATOR + (descending ? "D" : "A") + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TrainerCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            // The value goes last so it may itself contain the separator
+            String[] parts = raw.split("\\|", 4);
+            TrainerSortKey sortKey = TrainerSortKey.valueOf(parts[0]);
+            return new TrainerCursor(sortKey, "D".equals(parts[1]), sortKey.parse(parts[3]), Long.valueOf(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new InvalidTrainerDataException("Invalid cursor: " + encoded, ex);
+        }
+    }
+}
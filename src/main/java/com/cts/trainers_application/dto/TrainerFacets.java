@@ -0,0 +1,10 @@
+package com.cts.trainers_application.dto;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import java.util.Map;
+
+// Facet counts over the full match set of a search; experience is keyed by 5-year bucket start
+public record TrainerFacets(Map<ApplicationStatus, Long> status,
+                            Map<String, Long> city,
+                            Map<Integer, Long> experience) {
+}
@@ -0,0 +1,5 @@
+package com.cts.trainers_application.dto;
+
+// Projection used to (re)build the in-memory name index without hydrating trainers
+public record TrainerName(Long id, String firstName, String lastName) {
+}
@@ -1,11 +1,22 @@
 package com.cts.trainers_application.dto;
 
 import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.TrainerViews;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonView;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+// Lean list/search view of a trainer: scalar columns only, selected directly by JPQL constructor expressions
 public class TrainerResponseDTO {
     private Long id;
+    // Kept for keyset cursors over first/last name; clients get fullName
+    @JsonIgnore
+    private String firstName;
+    @JsonIgnore
+    private String lastName;
     private String fullName;
     private String email;
     private String phoneNumber;
@@ -14,7 +25,9 @@ public class TrainerResponseDTO {
     private String country;
     private String highestQualification;
     private Integer yearsOfExperience;
-    private List<String> specializations;
+    // Left out by ?fields=summary, as on Trainer
+    @JsonView(TrainerViews.Full.class)
+    private List<String> specializations = new ArrayList<>();
     private ApplicationStatus applicationStatus;
     private Double salaryExpectation;
     private Boolean availableForTravel;
@@ -24,10 +37,40 @@ public class TrainerResponseDTO {
     // Constructors
     public TrainerResponseDTO() {}
 
+    // Used by the SELECT new ... projections; specializations are attached afterwards in one batched query
+    public TrainerResponseDTO(Long id, String firstName, String lastName, String email, String phoneNumber,
+                              String city, String state, String country, String highestQualification,
+                              Integer yearsOfExperience, ApplicationStatus applicationStatus,
+                              Double salaryExpectation, Boolean availableForTravel,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.fullName = firstName + " " + lastName;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.city = city;
+        this.state = state;
+        this.country = country;
+        this.highestQualification = highestQualification;
+        this.yearsOfExperience = yearsOfExperience;
+        this.applicationStatus = applicationStatus;
+        this.salaryExpectation = salaryExpectation;
+        this.availableForTravel = availableForTravel;
+        this.createdAt = createdAt == null ? null : createdAt.toString();
+        this.updatedAt = updatedAt == null ? null : updatedAt.toString();
+    }
+
     // Getters and setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+
     public String getFullName() { return fullName; }
     public void setFullName(String fullName) { this.fullName = fullName; }
 
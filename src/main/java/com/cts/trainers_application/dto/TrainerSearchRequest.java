@@ -0,0 +1,70 @@
+package com.cts.trainers_application.dto;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+// Filter spec for POST /api/trainers/search; every criterion is optional and they are combined with AND
+public class TrainerSearchRequest {
+
+    private List<ApplicationStatus> statuses;
+
+    private List<String> cities;
+
+    @Min(value = 0, message = "Minimum experience cannot be negative")
+    @Max(value = 50, message = "Minimum experience cannot exceed 50")
+    private Integer minExperience;
+
+    @Min(value = 0, message = "Maximum experience cannot be negative")
+    @Max(value = 50, message = "Maximum experience cannot exceed 50")
+    private Integer maxExperience;
+
+    @DecimalMin(value = "0.0", message = "Minimum salary must be positive")
+    private Double minSalary;
+
+    @DecimalMin(value = "0.0", message = "Maximum salary must be positive")
+    private Double maxSalary;
+
+    private Boolean availableForTravel;
+
+    // Matches trainers having any of these specializations
+    private List<String> specializations;
+
+    @Min(value = 0, message = "Page cannot be negative")
+    private int page = 0;
+
+    @Min(value = 1, message = "Size must be at least 1")
+    @Max(value = 100, message = "Size cannot exceed 100")
+    private int size = 20;
+
+    // Getters and Setters
+    public List<ApplicationStatus> getStatuses() { return statuses; }
+    public void setStatuses(List<ApplicationStatus> statuses) { this.statuses = statuses; }
+
+    public List<String> getCities() { return cities; }
+    public void setCities(List<String> cities) { this.cities = cities; }
+
+    public Integer getMinExperience() { return minExperience; }
+    public void setMinExperience(Integer minExperience) { this.minExperience = minExperience; }
+
+    public Integer getMaxExperience() { return maxExperience; }
+    public void setMaxExperience(Integer maxExperience) { this.maxExperience = maxExperience; }
+
+    public Double getMinSalary() { return minSalary; }
+    public void setMinSalary(Double minSalary) { this.minSalary = minSalary; }
+
+    public Double getMaxSalary() { return maxSalary; }
+    public void setMaxSalary(Double maxSalary) { this.maxSalary = maxSalary; }
+
+    public Boolean getAvailableForTravel() { return availableForTravel; }
+    public void setAvailableForTravel(Boolean availableForTravel) { this.availableForTravel = availableForTravel; }
+
+    public List<String> getSpecializations() { return specializations; }
+    public void setSpecializations(List<String> specializations) { this.specializations = specializations; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+}
@@ -0,0 +1,7 @@
+package com.cts.trainers_application.dto;
+
+import java.util.List;
+
+public record TrainerSearchResult(List<TrainerResponseDTO> content, int page, int size, long totalElements,
+                                  int totalPages, TrainerFacets facets) {
+}
@@ -0,0 +1,5 @@
+package com.cts.trainers_application.dto;
+
+// One row of the trainer_specializations collection table
+public record TrainerSpecialization(Long trainerId, String specialization) {
+}
@@ -0,0 +1,8 @@
+package com.cts.trainers_application.dto;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+
+// Result of a status update that never loads the full trainer; version is the new ETag
+public record TrainerStatusChange(Long id, ApplicationStatus previousStatus, ApplicationStatus applicationStatus,
+                                  Long version) {
+}
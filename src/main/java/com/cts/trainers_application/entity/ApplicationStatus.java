@@ -1,5 +1,11 @@
 package com.cts.trainers_application.entity;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum ApplicationStatus {
     PENDING("Pending Review"),
     UNDER_REVIEW("Under Review"),
@@ -9,6 +15,19 @@ public enum ApplicationStatus {
     INTERVIEW_SCHEDULED("Interview Scheduled"),
     HIRED("Hired");
 
+    // Allowed status moves; REJECTED and HIRED are final
+    private static final Map<ApplicationStatus, Set<ApplicationStatus>> TRANSITIONS = new EnumMap<>(ApplicationStatus.class);
+
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.of(UNDER_REVIEW, ON_HOLD, REJECTED));
+        TRANSITIONS.put(UNDER_REVIEW, EnumSet.of(INTERVIEW_SCHEDULED, APPROVED, ON_HOLD, REJECTED));
+        TRANSITIONS.put(ON_HOLD, EnumSet.of(UNDER_REVIEW, REJECTED));
+        TRANSITIONS.put(INTERVIEW_SCHEDULED, EnumSet.of(UNDER_REVIEW, APPROVED, ON_HOLD, REJECTED));
+        TRANSITIONS.put(APPROVED, EnumSet.of(HIRED, REJECTED));
+        TRANSITIONS.put(REJECTED, EnumSet.noneOf(ApplicationStatus.class));
+        TRANSITIONS.put(HIRED, EnumSet.noneOf(ApplicationStatus.class));
+    }
+
     private final String displayName;
 
     ApplicationStatus(String displayName) {
@@ -18,4 +37,23 @@ public enum ApplicationStatus {
     public String getDisplayName() {
         return displayName;
     }
+
+    public Set<ApplicationStatus> getAllowedTransitions() {
+        return Collections.unmodifiableSet(TRANSITIONS.get(this));
+    }
+
+    public boolean canTransitionTo(ApplicationStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    // Statuses that may move to target, i.e. the WHERE status IN (...) of a set-based transition
+    public static Set<ApplicationStatus> sourcesOf(ApplicationStatus target) {
+        Set<ApplicationStatus> sources = EnumSet.noneOf(ApplicationStatus.class);
+        TRANSITIONS.forEach((source, targets) -> {
+            if (targets.contains(target)) {
+                sources.add(source);
+            }
+        });
+        return sources;
+    }
 }
@@ -0,0 +1,22 @@
+package com.cts.trainers_application.entity;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+// In-memory keys that compare like the case- and accent-insensitive column collation, so values the database
+// treats as equal (in a GROUP BY, a unique index or a WHERE) land in the same map entry
+public final class CollationKeys {
+
+    private CollationKeys() {}
+
+    // Accents stripped and lower-cased; trailing spaces are kept, as the collation does not pad
+    public static String fold(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    public static String city(String city) {
+        return fold(city);
+    }
+}
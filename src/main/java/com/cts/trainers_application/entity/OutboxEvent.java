@@ -0,0 +1,90 @@
+package com.cts.trainers_application.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Trainer change recorded in the same transaction as the change itself; deleted once a relay has delivered it.
+// Claimable rows are one range of idx_trainer_outbox_claimable: claimed_until < now, unclaimed rows included.
+@Entity
+@Table(name = "trainer_outbox", indexes = {
+        @Index(name = "idx_trainer_outbox_claimable", columnList = "claimed_until, id")
+})
+public class OutboxEvent {
+
+    // claimed_until of a row no relay has claimed yet; non-null so it sorts before every real lease
+    public static final LocalDateTime UNCLAIMED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // Pooled like trainer ids so bulk imports keep batching their outbox rows too
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_id_generator")
+    @TableGenerator(name = "outbox_id_generator", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "trainer_outbox",
+            allocationSize = 50)
+    private Long id;
+
+    @Column(name = "trainer_id", nullable = false)
+    private Long trainerId;
+
+    // TrainerChangeEvent.sequence(): orders the changes of one trainer, which the event id does not
+    @Column(name = "trainer_sequence", nullable = false)
+    private long trainerSequence;
+
+    @Column(name = "event_type", nullable = false, length = 32)
+    private String eventType;
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Set while a relay node holds the row; an expired lease makes it claimable again
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claimed_until", nullable = false)
+    private LocalDateTime claimedUntil = UNCLAIMED;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // Constructors
+    public OutboxEvent() {}
+
+    public OutboxEvent(Long trainerId, long trainerSequence, String eventType, String payload, LocalDateTime createdAt) {
+        this.trainerId = trainerId;
+        this.trainerSequence = trainerSequence;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTrainerId() { return trainerId; }
+    public void setTrainerId(Long trainerId) { this.trainerId = trainerId; }
+
+    public long getTrainerSequence() { return trainerSequence; }
+    public void setTrainerSequence(long trainerSequence) { this.trainerSequence = trainerSequence; }
+
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public String getClaimedBy() { return claimedBy; }
+    public void setClaimedBy(String claimedBy) { this.claimedBy = claimedBy; }
+
+    public LocalDateTime getClaimedUntil() { return claimedUntil; }
+    public void setClaimedUntil(LocalDateTime claimedUntil) { this.claimedUntil = claimedUntil; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+}
@@ -0,0 +1,42 @@
+package com.cts.trainers_application.entity;
+
+import jakarta.persistence.*;
+
+// Interned specialization: trainers reference skills by integer id through the trainer_skills join table
+@Entity
+@Table(name = "skills", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_skills_name", columnNames = "name")
+})
+public class Skill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    // Normalized key; see normalize(). As long as trainer_specializations.specialization, so any specialization fits
+    @Column(name = "name", nullable = false, length = 255)
+    private String name;
+
+    // Spelling of the first trainer that used this skill
+    @Column(name = "display_name", nullable = false, length = 255)
+    private String displayName;
+
+    // Constructors
+    public Skill() {}
+
+    // Getters and Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDisplayName() { return displayName; }
+    public void setDisplayName(String displayName) { this.displayName = displayName; }
+
+    // Utility methods
+    // Trimmed, whitespace collapsed, then folded like uk_skills_name's case- and accent-insensitive collation
+    public static String normalize(String specialization) {
+        return CollationKeys.fold(specialization.trim().replaceAll("\\s+", " "));
+    }
+}
@@ -1,19 +1,37 @@
 package com.cts.trainers_application.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
-@Table(name = "trainers")
+@Table(name = "trainers", indexes = {
+        @Index(name = "idx_trainers_experience_rank", columnList = "years_of_experience DESC, id ASC"),
+        @Index(name = "idx_trainers_first_name_id", columnList = "first_name, id"),
+        @Index(name = "idx_trainers_last_name_id", columnList = "last_name, id"),
+        @Index(name = "idx_trainers_city_id", columnList = "city, id"),
+        @Index(name = "idx_trainers_created_at_id", columnList = "created_at, id")
+})
 public class Trainer {
 
+    // Pooled table allocator: each node reserves blocks of 50 ids per round trip, which keeps JDBC batching on
+    // (IDENTITY forces an immediate insert per row). The row is seeded above existing ids by data.sql.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "trainer_id_generator")
+    @TableGenerator(name = "trainer_id_generator", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "trainers",
+            allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
@@ -77,15 +95,30 @@ public class Trainer {
     @Column(name = "years_of_experience", nullable = false)
     private Integer yearsOfExperience;
 
+    // Batch-fetched: initializing one row's collection loads it for up to 100 rows of the same page
     @ElementCollection
     @CollectionTable(name = "trainer_specializations", joinColumns = @JoinColumn(name = "trainer_id"))
     @Column(name = "specialization")
+    @BatchSize(size = 100)
+    @JsonView(TrainerViews.Full.class)
     @NotEmpty(message = "At least one specialization is required")
     private List<String> specializations;
 
+    // Interned form of specializations, kept in sync by SkillDictionary on every write
+    @ManyToMany
+    @JoinTable(name = "trainer_skills",
+            joinColumns = @JoinColumn(name = "trainer_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_trainer_skills_skill_trainer", columnList = "skill_id, trainer_id"))
+    @BatchSize(size = 100)
+    @JsonIgnore
+    private Set<Skill> skills = new HashSet<>();
+
     @ElementCollection
     @CollectionTable(name = "trainer_certifications", joinColumns = @JoinColumn(name = "trainer_id"))
     @Column(name = "certification")
+    @BatchSize(size = 100)
+    @JsonView(TrainerViews.Full.class)
     private List<String> certifications;
 
     @NotBlank(message = "Previous company is required")
@@ -110,6 +143,13 @@ public class Trainer {
     @Column(name = "available_for_travel", nullable = false)
     private Boolean availableForTravel;
 
+    // Optimistic lock; also the trainer's ETag. Existing rows start at 0 when the column is added
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -185,6 +225,9 @@ public class Trainer {
     public List<String> getSpecializations() { return specializations; }
     public void setSpecializations(List<String> specializations) { this.specializations = specializations; }
 
+    public Set<Skill> getSkills() { return skills; }
+    public void setSkills(Set<Skill> skills) { this.skills = skills; }
+
     public List<String> getCertifications() { return certifications; }
     public void setCertifications(List<String> certifications) { this.certifications = certifications; }
 
@@ -203,6 +246,9 @@ public class Trainer {
     public Boolean getAvailableForTravel() { return availableForTravel; }
     public void setAvailableForTravel(Boolean availableForTravel) { this.availableForTravel = availableForTravel; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
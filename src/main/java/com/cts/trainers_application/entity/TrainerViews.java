@@ -0,0 +1,18 @@
+package com.cts.trainers_application.entity;
+
+// Jackson views selecting how much of a Trainer or TrainerResponseDTO is serialized (see ?fields= on list endpoints)
+public final class TrainerViews {
+
+    // Scalar columns only - the element collections are never touched, so never loaded
+    public interface Summary {}
+
+    // Everything, including specializations and certifications
+    public interface Full extends Summary {}
+
+    // Whether a view serializes the element collections, so whether a read for it has to load them at all
+    public static boolean includesCollections(Class<?> view) {
+        return Full.class.isAssignableFrom(view);
+    }
+
+    private TrainerViews() {}
+}
@@ -0,0 +1,27 @@
+package com.cts.trainers_application.entity;
+
+import jakarta.persistence.*;
+
+// One of a few counters whose sum is the cluster-wide trainer write generation; each committing transaction bumps
+// a random slot, so concurrent writers rarely queue on the same row
+@Entity
+@Table(name = "trainer_write_generation")
+public class WriteGenerationSlot {
+
+    @Id
+    @Column(name = "slot")
+    private Integer slot;
+
+    @Column(name = "generation", nullable = false)
+    private long generation;
+
+    // Constructors
+    public WriteGenerationSlot() {}
+
+    // Getters and Setters
+    public Integer getSlot() { return slot; }
+    public void setSlot(Integer slot) { this.slot = slot; }
+
+    public long getGeneration() { return generation; }
+    public void setGeneration(long generation) { this.generation = generation; }
+}
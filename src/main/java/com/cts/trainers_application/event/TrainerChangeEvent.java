@@ -0,0 +1,34 @@
+package com.cts.trainers_application.event;
+
+// Published by TrainerService for every write; 'before' is null on create, 'after' is null on delete
+public record TrainerChangeEvent(Type type, Long trainerId, TrainerSnapshot before, TrainerSnapshot after) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED
+    }
+
+    public static TrainerChangeEvent created(TrainerSnapshot after) {
+        return new TrainerChangeEvent(Type.CREATED, after.id(), null, after);
+    }
+
+    public static TrainerChangeEvent updated(TrainerSnapshot before, TrainerSnapshot after) {
+        return new TrainerChangeEvent(Type.UPDATED, after.id(), before, after);
+    }
+
+    public static TrainerChangeEvent statusChanged(TrainerSnapshot before, TrainerSnapshot after) {
+        return new TrainerChangeEvent(Type.STATUS_CHANGED, after.id(), before, after);
+    }
+
+    public static TrainerChangeEvent deleted(TrainerSnapshot before) {
+        return new TrainerChangeEvent(Type.DELETED, before.id(), before, null);
+    }
+
+    // Position of this change among the trainer's changes: the row version it produced; a delete comes right
+    // after the last version
+    public long sequence() {
+        return after != null ? after.version() : before.version() + 1;
+    }
+}
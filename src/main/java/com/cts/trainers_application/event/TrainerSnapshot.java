@@ -0,0 +1,54 @@
+package com.cts.trainers_application.event;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Trainer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Objects;
+
+// Immutable copy of the trainer fields that in-memory views are keyed on
+public record TrainerSnapshot(
+        Long id,
+        String firstName,
+        String lastName,
+        String email,
+        ApplicationStatus applicationStatus,
+        String city,
+        Integer yearsOfExperience,
+        Double salaryExpectation,
+        Boolean availableForTravel,
+        // null when the snapshot was read without them, which is not the same as having none
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<String> specializations,
+        Long version) {
+
+    // Scalar-only projection (TrainerRepository.findSnapshot*); specializations are unknown (null)
+    public TrainerSnapshot(Long id, String firstName, String lastName, String email,
+                           ApplicationStatus applicationStatus, String city, Integer yearsOfExperience,
+                           Double salaryExpectation, Boolean availableForTravel, Long version) {
+        this(id, firstName, lastName, email, applicationStatus, city, yearsOfExperience, salaryExpectation,
+                availableForTravel, null, version);
+    }
+
+    public static TrainerSnapshot of(Trainer trainer) {
+        return new TrainerSnapshot(
+                trainer.getId(),
+                trainer.getFirstName(),
+                trainer.getLastName(),
+                trainer.getEmail(),
+                trainer.getApplicationStatus(),
+                trainer.getCity(),
+                trainer.getYearsOfExperience(),
+                trainer.getSalaryExpectation(),
+                trainer.getAvailableForTravel(),
+                trainer.getSpecializations() == null ? List.of()
+                        : trainer.getSpecializations().stream().filter(Objects::nonNull).toList(),
+                trainer.getVersion()
+        );
+    }
+
+    // The row as it is after a status-only UPDATE bumped the version
+    public TrainerSnapshot withStatus(ApplicationStatus status, Long newVersion) {
+        return new TrainerSnapshot(id, firstName, lastName, email, status, city, yearsOfExperience,
+                salaryExpectation, availableForTravel, specializations, newVersion);
+    }
+}
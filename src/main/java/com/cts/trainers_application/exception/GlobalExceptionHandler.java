@@ -1,5 +1,11 @@
 package com.cts.trainers_application.exception;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.DataException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -10,26 +16,63 @@ import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // MySQL errors for a value the schema rejects: NULL into NOT NULL (1048), missing NOT NULL value (1364),
+    // failed CHECK (3819). Hibernate only tells unique-key violations apart from the rest.
+    private static final Set<Integer> REJECTED_VALUE_ERROR_CODES = Set.of(1048, 1364, 3819);
+
+    private static final PreformattedErrorBody NOT_FOUND = new PreformattedErrorBody(HttpStatus.NOT_FOUND, "Not Found");
+    private static final PreformattedErrorBody CONFLICT = new PreformattedErrorBody(HttpStatus.CONFLICT, "Conflict");
+
     @ExceptionHandler(TrainerNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleTrainerNotFoundException(
-            TrainerNotFoundException ex, WebRequest request) {
+    public ResponseEntity<String> handleTrainerNotFoundException(
+            TrainerNotFoundException ex, HttpServletRequest request) {
+        return NOT_FOUND.render(ex.getMessage(), request.getRequestURI());
+    }
+
+    @ExceptionHandler(TrainerAlreadyExistsException.class)
+    public ResponseEntity<String> handleTrainerAlreadyExistsException(
+            TrainerAlreadyExistsException ex, HttpServletRequest request) {
+        return CONFLICT.render(ex.getMessage(), request.getRequestURI());
+    }
+
+    // Only a unique-key violation is a conflicting write. Values the schema rejects (NOT NULL, CHECK, too long)
+    // are bad input; anything else, e.g. a foreign-key violation, is a server bug
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex, WebRequest request) {
+        HttpStatus status;
+        String message;
+        if (ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+            status = HttpStatus.CONFLICT;
+            message = "Request conflicts with existing data";
+        } else if (ex.getCause() instanceof DataException
+                || ex.getCause() instanceof ConstraintViolationException violation
+                && REJECTED_VALUE_ERROR_CODES.contains(violation.getErrorCode())) {
+            status = HttpStatus.BAD_REQUEST;
+            message = "Request contains a value the database cannot store";
+        } else {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+            message = "An unexpected data integrity error occurred";
+        }
         ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
-                HttpStatus.NOT_FOUND.value(),
-                "Not Found",
-                ex.getMessage(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
                 request.getDescription(false)
         );
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        return new ResponseEntity<>(errorResponse, status);
     }
 
-    @ExceptionHandler(TrainerAlreadyExistsException.class)
-    public ResponseEntity<ErrorResponse> handleTrainerAlreadyExistsException(
-            TrainerAlreadyExistsException ex, WebRequest request) {
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidStatusTransitionException(
+            InvalidStatusTransitionException ex, WebRequest request) {
         ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
                 HttpStatus.CONFLICT.value(),
@@ -40,6 +83,33 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(TrainerVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTrainerVersionMismatchException(
+            TrainerVersionMismatchException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.PRECONDITION_FAILED.value(),
+                "Precondition Failed",
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // A concurrent write committed between our read and our write
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "Trainer was modified concurrently; reload and retry",
+                request.getDescription(false)
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(InvalidTrainerDataException.class)
     public ResponseEntity<ErrorResponse> handleInvalidTrainerDataException(
             InvalidTrainerDataException ex, WebRequest request) {
@@ -53,6 +123,21 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusyException(
+            ServiceBusyException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
@@ -0,0 +1,11 @@
+package com.cts.trainers_application.exception;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    public InvalidStatusTransitionException(Long id, ApplicationStatus from, ApplicationStatus to) {
+        super("Trainer " + id + " cannot move from " + from + " to " + to
+                + "; allowed: " + from.getAllowedTransitions());
+    }
+}
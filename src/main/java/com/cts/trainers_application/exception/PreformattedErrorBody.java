@@ -0,0 +1,38 @@
+package com.cts.trainers_application.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// ErrorResponse as a JSON string built from a fixed template: no object to allocate and no Jackson
+// serialization on the 404/409 paths that clients hit routinely. Same fields as ErrorResponse.
+final class PreformattedErrorBody {
+
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+
+    private final HttpStatus status;
+    private final String fields;
+
+    PreformattedErrorBody(HttpStatus status, String error) {
+        this.status = status;
+        this.fields = "\",\"status\":" + status.value() + ",\"error\":\"" + error + "\",\"message\":\"";
+    }
+
+    ResponseEntity<String> render(String message, String requestUri) {
+        StringBuilder body = new StringBuilder(128 + message.length() + requestUri.length())
+                .append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(LocalDateTime.now(), body);
+        body.append(fields);
+        ENCODER.quoteAsString(message, body);
+        body.append("\",\"path\":\"uri=");
+        ENCODER.quoteAsString(requestUri, body);
+        body.append("\"}");
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body.toString());
+    }
+}
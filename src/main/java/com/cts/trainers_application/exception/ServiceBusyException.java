@@ -0,0 +1,7 @@
+package com.cts.trainers_application.exception;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,9 @@
 package com.cts.trainers_application.exception;
 
+// Thrown on routine paths (duplicate submits), so no stack trace is captured
 public class TrainerAlreadyExistsException extends RuntimeException {
 
     public TrainerAlreadyExistsException(String email) {
-        super("Trainer with email " + email + " already exists");
+        super("Trainer with email " + email + " already exists", null, false, false);
     }
 }
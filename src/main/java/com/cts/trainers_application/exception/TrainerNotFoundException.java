@@ -1,16 +1,16 @@
 package com.cts.trainers_application.exception;
 
+// Thrown on routine paths (polling deleted ids), so no stack trace is captured
 public class TrainerNotFoundException extends RuntimeException {
     public TrainerNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public TrainerNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 
     public TrainerNotFoundException(Long id) {
-        super("Trainer not found with id: " + id);
+        this("Trainer not found with id: " + id);
     }
 }
-
@@ -0,0 +1,11 @@
+package com.cts.trainers_application.exception;
+
+public class TrainerVersionMismatchException extends RuntimeException {
+    public TrainerVersionMismatchException(String message) {
+        super(message);
+    }
+
+    public TrainerVersionMismatchException(Long id, Long expectedVersion, Long currentVersion) {
+        super("Trainer " + id + " is at version " + currentVersion + ", not the expected version " + expectedVersion);
+    }
+}
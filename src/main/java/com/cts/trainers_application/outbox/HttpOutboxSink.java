@@ -0,0 +1,58 @@
+package com.cts.trainers_application.outbox;
+
+import com.cts.trainers_application.entity.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+// POSTs each batch as one NDJSON body; any non-2xx answer fails the batch so it is retried
+@Component
+@ConditionalOnProperty(name = "trainers.outbox.sink", havingValue = "http")
+public class HttpOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final URI endpoint;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    @Autowired
+    public HttpOutboxSink(ObjectMapper objectMapper,
+                          @Value("${trainers.outbox.http.url}") URI endpoint,
+                          @Value("${trainers.outbox.http.timeout:10s}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.endpoint = endpoint;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> batch) throws IOException {
+        StringBuilder body = new StringBuilder();
+        for (OutboxEvent event : batch) {
+            body.append(OutboxMessages.toJsonLine(objectMapper, event)).append('\n');
+        }
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(timeout)
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("Outbox endpoint answered " + response.statusCode());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while delivering outbox batch", ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.cts.trainers_application.outbox;
+
+import com.cts.trainers_application.entity.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+// Wire format shared by the sinks: one JSON object per event, the stored payload embedded as-is
+final class OutboxMessages {
+
+    private OutboxMessages() {}
+
+    static String toJsonLine(ObjectMapper objectMapper, OutboxEvent event) throws JsonProcessingException {
+        ObjectNode message = objectMapper.createObjectNode();
+        message.put("id", event.getId());
+        message.put("type", event.getEventType());
+        message.put("trainerId", event.getTrainerId());
+        message.put("sequence", event.getTrainerSequence());
+        message.put("occurredAt", event.getCreatedAt().toString());
+        message.putRawValue("payload", new RawValue(event.getPayload()));
+        return objectMapper.writeValueAsString(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.cts.trainers_application.outbox;
+
+import com.cts.trainers_application.entity.OutboxEvent;
+import java.io.IOException;
+import java.util.List;
+
+// Destination of relayed outbox events. Delivery is at-least-once: a batch is retried after a failure or an
+// expired lease, so receivers should de-duplicate on the event id.
+// Delivery is not ordered, not even per trainer. Relays deliver batches in parallel, ids are allocated in blocks
+// per node, and a long transaction can commit a lower id after a higher one was delivered. Order a trainer's
+// changes by "sequence" instead (the row version the change produced): apply a message only if its sequence is
+// above the last one applied for that trainerId.
+public interface OutboxSink {
+
+    void deliver(List<OutboxEvent> batch) throws IOException;
+}
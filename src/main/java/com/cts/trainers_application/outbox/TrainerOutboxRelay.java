@@ -0,0 +1,83 @@
+package com.cts.trainers_application.outbox;
+
+import com.cts.trainers_application.entity.OutboxEvent;
+import com.cts.trainers_application.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Drains the outbox in batches: claim (short transaction), deliver (no transaction), delete (short transaction).
+// Claims are leases taken with SKIP LOCKED, so any number of nodes can relay in parallel without sharing a batch.
+@Component
+@ConditionalOnProperty(name = "trainers.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class TrainerOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainerOutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final int batchSize;
+    private final Duration lease;
+
+    @Autowired
+    public TrainerOutboxRelay(OutboxEventRepository outboxEventRepository,
+                              OutboxSink sink,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${trainers.outbox.relay.node-id:}") String nodeId,
+                              @Value("${trainers.outbox.relay.batch-size:200}") int batchSize,
+                              @Value("${trainers.outbox.relay.lease:60s}") Duration lease) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // pid@host by default: unique per running process
+        this.nodeId = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        this.batchSize = batchSize;
+        this.lease = lease;
+    }
+
+    @Scheduled(fixedDelayString = "${trainers.outbox.relay.poll-interval:1s}")
+    public void relay() {
+        List<OutboxEvent> batch;
+        // Keep draining while batches come back full; an idle outbox costs one indexed query per poll
+        do {
+            batch = claimBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                sink.deliver(batch);
+            } catch (IOException | RuntimeException ex) {
+                // The lease runs out and the batch is claimed again (here or on another node)
+                log.warn("Outbox delivery of {} events failed, retrying after the lease expires", batch.size(), ex);
+                return;
+            }
+            List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteDelivered(ids, nodeId));
+        } while (batch.size() == batchSize);
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = outboxEventRepository.lockClaimable(now, batchSize);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxEventRepository.claim(ids, nodeId, now.plus(lease));
+            return outboxEventRepository.findByIdInOrderById(ids);
+        });
+    }
+}
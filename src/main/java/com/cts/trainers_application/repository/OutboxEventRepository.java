@@ -0,0 +1,34 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // SKIP LOCKED lets several relay nodes claim disjoint batches concurrently instead of queueing on row locks.
+    // Unclaimed rows carry OutboxEvent.UNCLAIMED, so this is one range scan of idx_trainer_outbox_claimable in
+    // index order (never-claimed rows first, by id) that stops after :limit rows
+    @Query(value = "SELECT id FROM trainer_outbox WHERE claimed_until < :now " +
+                   "ORDER BY claimed_until, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = :node, e.claimedUntil = :until, e.attempts = e.attempts + 1 " +
+           "WHERE e.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("node") String node, @Param("until") LocalDateTime until);
+
+    List<OutboxEvent> findByIdInOrderById(Collection<Long> ids);
+
+    // Only rows this node still holds; a row whose lease expired and was re-claimed elsewhere stays
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids AND e.claimedBy = :node")
+    int deleteDelivered(@Param("ids") Collection<Long> ids, @Param("node") String node);
+}
@@ -0,0 +1,33 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.dto.SkillLink;
+import com.cts.trainers_application.entity.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Integer> {
+
+    List<Skill> findByNameIn(Collection<String> names);
+
+    Optional<Skill> findByName(String name);
+
+    // IGNORE makes concurrent interning of the same new skill a no-op instead of a unique-key failure
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO skills (name, display_name) VALUES (:name, :displayName)", nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name, @Param("displayName") String displayName);
+
+    // Keyset walk over the join table in (trainer, skill) order
+    @Query("SELECT new com.cts.trainers_application.dto.SkillLink(t.id, s.id) FROM Trainer t JOIN t.skills s " +
+           "WHERE t.id > :afterTrainerId OR (t.id = :afterTrainerId AND s.id > :afterSkillId) " +
+           "ORDER BY t.id, s.id LIMIT :limit")
+    List<SkillLink> findLinksAfter(@Param("afterTrainerId") Long afterTrainerId,
+                                   @Param("afterSkillId") Integer afterSkillId,
+                                   @Param("limit") int limit);
+}
@@ -1,57 +1,165 @@
 package com.cts.trainers_application.repository;
 
 
+import com.cts.trainers_application.dto.CityCount;
+import com.cts.trainers_application.dto.ExperienceCount;
+import com.cts.trainers_application.dto.SalarySummary;
+import com.cts.trainers_application.dto.StatusCount;
+import com.cts.trainers_application.dto.TrainerName;
+import com.cts.trainers_application.dto.TrainerResponseDTO;
+import com.cts.trainers_application.dto.TrainerSpecialization;
 import com.cts.trainers_application.entity.ApplicationStatus;
 import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TrainerRepository extends JpaRepository<Trainer, Long> {
+public interface TrainerRepository extends JpaRepository<Trainer, Long>, JpaSpecificationExecutor<Trainer> {
+
+    // List and search views read only the TrainerResponseDTO columns: no TEXT notes, no collections, no entities
+    String SELECT_SUMMARY = "SELECT new com.cts.trainers_application.dto.TrainerResponseDTO(t.id, t.firstName, " +
+            "t.lastName, t.email, t.phoneNumber, t.city, t.state, t.country, t.highestQualification, " +
+            "t.yearsOfExperience, t.applicationStatus, t.salaryExpectation, t.availableForTravel, t.createdAt, " +
+            "t.updatedAt) FROM Trainer t ";
 
     // Custom query methods using JPA Streams
     Optional<Trainer> findByEmail(String email);
 
-    List<Trainer> findByApplicationStatus(ApplicationStatus status);
+    @Query("SELECT t.id FROM Trainer t WHERE t.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    @Query(value = SELECT_SUMMARY, countQuery = "SELECT COUNT(t) FROM Trainer t")
+    Page<TrainerResponseDTO> findSummaries(Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "WHERE t.id IN :ids")
+    List<TrainerResponseDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.cts.trainers_application.dto.TrainerSpecialization(t.id, s) " +
+           "FROM Trainer t JOIN t.specializations s WHERE t.id IN :ids")
+    List<TrainerSpecialization> findSpecializationsByTrainerIdIn(@Param("ids") Collection<Long> ids);
+
+    // Slice finders read size + 1 rows to answer hasNext and never issue a COUNT
+    @Query(SELECT_SUMMARY + "WHERE t.applicationStatus = :status")
+    Slice<TrainerResponseDTO> findByApplicationStatus(@Param("status") ApplicationStatus status, Pageable pageable);
 
-    List<Trainer> findByYearsOfExperienceGreaterThanEqual(Integer years);
+    @Query(SELECT_SUMMARY + "WHERE t.yearsOfExperience >= :years")
+    Slice<TrainerResponseDTO> findByYearsOfExperienceGreaterThanEqual(@Param("years") Integer years,
+                                                                      Pageable pageable);
 
-    List<Trainer> findByCityIgnoreCase(String city);
+    // The column collation is case-insensitive, so a plain comparison ignores case and still uses idx_trainers_city_id
+    @Query(SELECT_SUMMARY + "WHERE t.city = :city")
+    Slice<TrainerResponseDTO> findByCityIgnoreCase(@Param("city") String city, Pageable pageable);
 
     List<Trainer> findByStateIgnoreCase(String state);
 
     List<Trainer> findByCountryIgnoreCase(String country);
 
-    List<Trainer> findByAvailableForTravel(Boolean available);
+    @Query(SELECT_SUMMARY + "WHERE t.availableForTravel = :available")
+    Slice<TrainerResponseDTO> findByAvailableForTravel(@Param("available") Boolean available, Pageable pageable);
 
-    @Query("SELECT t FROM Trainer t WHERE t.firstName LIKE %:name% OR t.lastName LIKE %:name%")
-    List<Trainer> findByNameContaining(@Param("name") String name);
-
-    @Query("SELECT t FROM Trainer t WHERE t.salaryExpectation BETWEEN :minSalary AND :maxSalary")
-    List<Trainer> findBySalaryExpectationBetween(@Param("minSalary") Double minSalary, @Param("maxSalary") Double maxSalary);
+    @Query(SELECT_SUMMARY + "WHERE t.salaryExpectation BETWEEN :minSalary AND :maxSalary")
+    Slice<TrainerResponseDTO> findBySalaryExpectationBetween(@Param("minSalary") Double minSalary,
+                                                             @Param("maxSalary") Double maxSalary,
+                                                             Pageable pageable);
 
     @Query("SELECT t FROM Trainer t WHERE t.dateOfBirth BETWEEN :startDate AND :endDate")
     List<Trainer> findByDateOfBirthBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
-    @Query("SELECT t FROM Trainer t JOIN t.specializations s WHERE s IN :specializations")
-    List<Trainer> findBySpecializationsIn(@Param("specializations") List<String> specializations);
-
     @Query("SELECT COUNT(t) FROM Trainer t WHERE t.applicationStatus = :status")
     Long countByApplicationStatus(@Param("status") ApplicationStatus status);
 
-    @Query("SELECT t FROM Trainer t WHERE t.createdAt >= :date")
-    List<Trainer> findRecentApplications(@Param("date") LocalDate date);
+    // Newest first, read backwards along idx_trainers_created_at_id
+    @Query(SELECT_SUMMARY + "WHERE t.createdAt >= :since ORDER BY t.createdAt DESC, t.id DESC")
+    Slice<TrainerResponseDTO> findRecentApplications(@Param("since") LocalDateTime since, Pageable pageable);
 
     boolean existsByEmail(String email);
 
+    @Query("SELECT t.email FROM Trainer t WHERE t.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     @Query("SELECT DISTINCT t.city FROM Trainer t ORDER BY t.city")
     List<String> findAllDistinctCities();
 
     @Query("SELECT DISTINCT t.state FROM Trainer t ORDER BY t.state")
     List<String> findAllDistinctStates();
+
+    // Ranked by experience, ties broken by id; served from idx_trainers_experience_rank
+    @Query(SELECT_SUMMARY + "ORDER BY t.yearsOfExperience DESC, t.id ASC LIMIT :limit OFFSET :offset")
+    List<TrainerResponseDTO> findTopByExperience(@Param("offset") int offset, @Param("limit") int limit);
+
+    // Walks all names in id order, one bounded chunk at a time
+    @Query("SELECT new com.cts.trainers_application.dto.TrainerName(t.id, t.firstName, t.lastName) " +
+           "FROM Trainer t WHERE t.id > :afterId ORDER BY t.id LIMIT :limit")
+    List<TrainerName> findNamesAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Query("SELECT new com.cts.trainers_application.event.TrainerSnapshot(t.id, t.firstName, t.lastName, t.email, " +
+           "t.applicationStatus, t.city, t.yearsOfExperience, t.salaryExpectation, t.availableForTravel, t.version) " +
+           "FROM Trainer t WHERE t.id > :afterId ORDER BY t.id LIMIT :limit")
+    List<TrainerSnapshot> findSnapshotsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // Scalar columns only: no entity, no collections, nothing in the persistence context
+    @Query("SELECT new com.cts.trainers_application.event.TrainerSnapshot(t.id, t.firstName, t.lastName, t.email, " +
+           "t.applicationStatus, t.city, t.yearsOfExperience, t.salaryExpectation, t.availableForTravel, t.version) " +
+           "FROM Trainer t WHERE t.id = :id")
+    Optional<TrainerSnapshot> findSnapshotById(@Param("id") Long id);
+
+    // Compare-and-set on the version: 0 rows means the trainer changed (or vanished) since it was read
+    @Modifying
+    @Query("UPDATE Trainer t SET t.applicationStatus = :status, t.version = t.version + 1, t.updatedAt = :now " +
+           "WHERE t.id = :id AND t.version = :version")
+    int updateStatusIfVersion(@Param("id") Long id, @Param("status") ApplicationStatus status,
+                              @Param("version") Long version, @Param("now") LocalDateTime now);
+
+    // Compare-and-set delete: 0 rows means the trainer changed or vanished since it was read. Hibernate first
+    // deletes the matching trainer_specializations, trainer_certifications and trainer_skills rows itself
+    @Modifying
+    @Query("DELETE FROM Trainer t WHERE t.id = :id AND t.version = :version")
+    int deleteIfVersion(@Param("id") Long id, @Param("version") Long version);
+
+    // Row locks are taken in id order, so overlapping bulk transitions wait for each other instead of deadlocking
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.cts.trainers_application.event.TrainerSnapshot(t.id, t.firstName, t.lastName, t.email, " +
+           "t.applicationStatus, t.city, t.yearsOfExperience, t.salaryExpectation, t.availableForTravel, t.version) " +
+           "FROM Trainer t WHERE t.id IN :ids ORDER BY t.id")
+    List<TrainerSnapshot> lockSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Set-based transition: one statement per chunk, only rows whose current status may move to the target
+    @Modifying
+    @Query("UPDATE Trainer t SET t.applicationStatus = :status, t.version = t.version + 1, t.updatedAt = :now " +
+           "WHERE t.id IN :ids AND t.applicationStatus IN :sources")
+    int transitionStatus(@Param("ids") Collection<Long> ids, @Param("sources") Collection<ApplicationStatus> sources,
+                         @Param("status") ApplicationStatus status, @Param("now") LocalDateTime now);
+
+    // Aggregation queries - grouped in the database, no entity hydration
+    @Query("SELECT new com.cts.trainers_application.dto.StatusCount(t.applicationStatus, COUNT(t)) " +
+           "FROM Trainer t GROUP BY t.applicationStatus")
+    List<StatusCount> countGroupedByApplicationStatus();
+
+    @Query("SELECT new com.cts.trainers_application.dto.CityCount(t.city, COUNT(t)) " +
+           "FROM Trainer t GROUP BY t.city")
+    List<CityCount> countGroupedByCity();
+
+    // At most 51 rows (0..50 years), bucketed by the caller
+    @Query("SELECT new com.cts.trainers_application.dto.ExperienceCount(t.yearsOfExperience, COUNT(t)) " +
+           "FROM Trainer t GROUP BY t.yearsOfExperience")
+    List<ExperienceCount> countGroupedByYearsOfExperience();
+
+    @Query("SELECT new com.cts.trainers_application.dto.SalarySummary(COALESCE(SUM(t.salaryExpectation), 0.0), COUNT(t.salaryExpectation)) " +
+           "FROM Trainer t")
+    SalarySummary summarizeSalaryExpectations();
 }
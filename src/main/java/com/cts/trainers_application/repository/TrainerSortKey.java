@@ -0,0 +1,74 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.dto.TrainerResponseDTO;
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import org.springframework.data.domain.Sort;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Sort keys backed by a (column, id) index, so both offset and keyset paging can walk the index in order
+public enum TrainerSortKey {
+    ID("id", TrainerResponseDTO::getId, Long::valueOf, false),
+    FIRST_NAME("firstName", TrainerResponseDTO::getFirstName, value -> value, false),
+    LAST_NAME("lastName", TrainerResponseDTO::getLastName, value -> value, false),
+    // Served by the unique email index (InnoDB secondary indexes already end with the primary key)
+    EMAIL("email", TrainerResponseDTO::getEmail, value -> value, false),
+    CITY("city", TrainerResponseDTO::getCity, value -> value, false),
+    // The summary carries createdAt as its ISO-8601 string, which is also the cursor form
+    CREATED_AT("createdAt", TrainerResponseDTO::getCreatedAt, LocalDateTime::parse, false),
+    // idx_trainers_experience_rank stores id ascending under descending experience
+    YEARS_OF_EXPERIENCE("yearsOfExperience", TrainerResponseDTO::getYearsOfExperience, Integer::valueOf, true);
+
+    private final String property;
+    private final Function<TrainerResponseDTO, Comparable<?>> extractor;
+    private final Function<String, Comparable<?>> parser;
+    private final boolean idOrderInverted;
+
+    TrainerSortKey(String property, Function<TrainerResponseDTO, Comparable<?>> extractor,
+                   Function<String, Comparable<?>> parser, boolean idOrderInverted) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+        this.idOrderInverted = idOrderInverted;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Comparable<?> valueOf(TrainerResponseDTO trainer) {
+        return extractor.apply(trainer);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+    public boolean isIdDescending(boolean descending) {
+        return descending != idOrderInverted;
+    }
+
+    // Always ends with id so equal keys have a stable order
+    public Sort toSort(boolean descending) {
+        Sort.Direction idDirection = isIdDescending(descending) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        if (this == ID) {
+            return Sort.by(idDirection, property);
+        }
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Sort.by(direction, property).and(Sort.by(idDirection, ID.property));
+    }
+
+    public static TrainerSortKey fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(key -> key.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new InvalidTrainerDataException(
+                        "Sorting by '" + property + "' is not supported; use one of " + supportedProperties()));
+    }
+
+    private static String supportedProperties() {
+        return Arrays.stream(values()).map(TrainerSortKey::getProperty).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,76 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.dto.TrainerCursor;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Trainer;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.LocalDateTime;
+
+public final class TrainerSpecifications {
+
+    private TrainerSpecifications() {}
+
+    public static Specification<Trainer> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<Trainer> idGreaterThan(Long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get(TrainerSortKey.ID.getProperty()), id);
+    }
+
+    public static Specification<Trainer> hasStatus(ApplicationStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("applicationStatus"), status);
+    }
+
+    // Plain comparison, like TrainerRepository.findByCityIgnoreCase: the case-insensitive column collation ignores
+    // case, and unlike LOWER(city) it can use idx_trainers_city_id
+    public static Specification<Trainer> inCityIgnoreCase(String city) {
+        return (root, query, cb) -> cb.equal(root.get("city"), city);
+    }
+
+    public static Specification<Trainer> experienceAtLeast(Integer minYears) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("yearsOfExperience"), minYears);
+    }
+
+    public static Specification<Trainer> availableForTravel() {
+        return (root, query, cb) -> cb.isTrue(root.get("availableForTravel"));
+    }
+
+    public static Specification<Trainer> createdSince(LocalDateTime since) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), since);
+    }
+
+    public static Specification<Trainer> salaryBetween(Double min, Double max) {
+        return (root, query, cb) -> {
+            Path<Double> salary = root.get("salaryExpectation");
+            if (min != null && max != null) {
+                return cb.between(salary, min, max);
+            }
+            return min != null ? cb.greaterThanOrEqualTo(salary, min) : cb.lessThanOrEqualTo(salary, max);
+        };
+    }
+
+    // Seek predicate: rows strictly after the cursor's (sortKey, id) in the cursor's order
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<Trainer> after(TrainerCursor cursor) {
+        return (root, query, cb) -> {
+            TrainerSortKey sortKey = cursor.sortKey();
+            Path<Long> idPath = root.get(TrainerSortKey.ID.getProperty());
+            Predicate idAfter = cursor.sortKey().isIdDescending(cursor.descending())
+                    ? cb.lessThan(idPath, cursor.id())
+                    : cb.greaterThan(idPath, cursor.id());
+            if (sortKey == TrainerSortKey.ID) {
+                return idAfter;
+            }
+            Expression keyPath = root.get(sortKey.getProperty());
+            Comparable value = cursor.value();
+            Predicate keyAfter = cursor.descending()
+                    ? cb.lessThan(keyPath, value)
+                    : cb.greaterThan(keyPath, value);
+            return cb.or(keyAfter, cb.and(cb.equal(keyPath, value), idAfter));
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.entity.WriteGenerationSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WriteGenerationRepository extends JpaRepository<WriteGenerationSlot, Integer> {
+
+    // Creates the slot on first use, so the table needs no seeding
+    @Modifying
+    @Query(value = "INSERT INTO trainer_write_generation (slot, generation) VALUES (:slot, 1) " +
+                   "ON DUPLICATE KEY UPDATE generation = generation + 1", nativeQuery = true)
+    void increment(@Param("slot") int slot);
+
+    // Every slot only grows, so the sum changes with every committed write
+    @Query("SELECT COALESCE(SUM(s.generation), 0) FROM WriteGenerationSlot s")
+    long sum();
+}
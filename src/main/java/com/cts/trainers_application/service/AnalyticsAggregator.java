@@ -0,0 +1,190 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.CityCount;
+import com.cts.trainers_application.dto.ExperienceCount;
+import com.cts.trainers_application.dto.SalarySummary;
+import com.cts.trainers_application.dto.StatusCount;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.CollationKeys;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.repository.TrainerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+// Analytics counters. On a single node (trainers.single-node) they are built once and then updated in O(1) after
+// every committed trainer write. Writes on other nodes never reach this process, so otherwise the counters are
+// rebuilt from the grouped queries whenever the shared write generation has moved, and reused until it moves again.
+@Component
+public class AnalyticsAggregator implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsAggregator.class);
+
+    private final TrainerRepository trainerRepository;
+    private final TrainerWriteGeneration writeGeneration;
+    private final boolean singleNode;
+
+    // Swapped wholesale on rebuild so readers never see a half-filled set of counters
+    private volatile Counters counters = new Counters(null);
+
+    @Autowired
+    public AnalyticsAggregator(TrainerRepository trainerRepository, TrainerWriteGeneration writeGeneration,
+                               @Value("${trainers.single-node:false}") boolean singleNode) {
+        this.trainerRepository = trainerRepository;
+        this.writeGeneration = writeGeneration;
+        this.singleNode = singleNode;
+    }
+
+    // Runs once all beans are ready, before the web server starts accepting requests
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (singleNode) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        counters = read(null);
+        log.info("Rebuilt trainer analytics counters from the database");
+    }
+
+    private Counters read(String generation) {
+        Counters fresh = new Counters(generation);
+        for (StatusCount row : trainerRepository.countGroupedByApplicationStatus()) {
+            fresh.byStatus.get(row.status()).add(row.count());
+        }
+        for (CityCount row : trainerRepository.countGroupedByCity()) {
+            fresh.cityTally(row.city()).count.add(row.count());
+        }
+        for (ExperienceCount row : trainerRepository.countGroupedByYearsOfExperience()) {
+            fresh.byExperienceBucket.computeIfAbsent(bucketOf(row.yearsOfExperience()), key -> new LongAdder())
+                    .add(row.count());
+        }
+        SalarySummary salaries = trainerRepository.summarizeSalaryExpectations();
+        fresh.salarySum.add(salaries.total());
+        fresh.salaryCount.add(salaries.count());
+        return fresh;
+    }
+
+    // The generation is read first, so the counters stored under it can only be newer than it says.
+    // Each set is labelled with its own generation, so a slower, older rebuild stored last only costs another one.
+    private Counters current() {
+        if (singleNode) {
+            return counters;
+        }
+        String generation = writeGeneration.current();
+        Counters current = counters;
+        if (!generation.equals(current.generation)) {
+            current = read(generation);
+            counters = current;
+        }
+        return current;
+    }
+
+    // Deltas are only applied on commit, so a rolled-back write has nothing to undo
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTrainerChanged(TrainerChangeEvent event) {
+        if (!singleNode) {
+            return; // the next read rebuilds, as it must for other nodes' writes anyway
+        }
+        Counters current = counters;
+        if (event.before() != null) {
+            current.apply(event.before(), -1);
+        }
+        if (event.after() != null) {
+            current.apply(event.after(), 1);
+        }
+    }
+
+    public Map<ApplicationStatus, Long> getStatusCounts() {
+        Map<ApplicationStatus, Long> result = new EnumMap<>(ApplicationStatus.class);
+        current().byStatus.forEach((status, count) -> putIfPositive(result, status, count));
+        return result;
+    }
+
+    public Map<String, Long> getCityCounts() {
+        Map<String, Long> result = new HashMap<>();
+        current().byCity.values().forEach(tally -> putIfPositive(result, tally.displayName, tally.count));
+        return result;
+    }
+
+    public Map<Integer, Long> getExperienceBucketCounts() {
+        Map<Integer, Long> result = new TreeMap<>();
+        current().byExperienceBucket.forEach((bucket, count) -> putIfPositive(result, bucket, count));
+        return result;
+    }
+
+    public Double getAverageSalary() {
+        Counters current = current();
+        long count = current.salaryCount.sum();
+        return count == 0 ? 0.0 : current.salarySum.sum() / count;
+    }
+
+    private static <K> void putIfPositive(Map<K, Long> target, K key, LongAdder adder) {
+        long value = adder.sum();
+        if (value > 0) {
+            target.put(key, value);
+        }
+    }
+
+    private static int bucketOf(int yearsOfExperience) {
+        return yearsOfExperience / 5 * 5; // Group by 5-year ranges
+    }
+
+    private static final class Counters {
+        private final String generation; // the write generation they were read at, when not single-node
+        private final Map<ApplicationStatus, LongAdder> byStatus = new EnumMap<>(ApplicationStatus.class);
+        private final ConcurrentMap<String, CityTally> byCity = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Integer, LongAdder> byExperienceBucket = new ConcurrentHashMap<>();
+        private final DoubleAdder salarySum = new DoubleAdder();
+        private final LongAdder salaryCount = new LongAdder();
+
+        private Counters(String generation) {
+            this.generation = generation;
+            // Pre-populated and never modified structurally, so the EnumMap is safe to share
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+        }
+
+        private void apply(TrainerSnapshot trainer, int delta) {
+            byStatus.get(trainer.applicationStatus()).add(delta);
+            cityTally(trainer.city()).count.add(delta);
+            byExperienceBucket.computeIfAbsent(bucketOf(trainer.yearsOfExperience()), key -> new LongAdder())
+                    .add(delta);
+            if (trainer.salaryExpectation() != null) {
+                salarySum.add(delta * trainer.salaryExpectation());
+                salaryCount.add(delta);
+            }
+        }
+
+        // countGroupedByCity groups under the column collation; deltas must land in the same buckets
+        private CityTally cityTally(String city) {
+            return byCity.computeIfAbsent(CollationKeys.city(city), key -> new CityTally(city));
+        }
+    }
+
+    // Reported under the first spelling seen, as the GROUP BY does
+    private static final class CityTally {
+        private final String displayName;
+        private final LongAdder count = new LongAdder();
+
+        private CityTally(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import com.cts.trainers_application.exception.ServiceBusyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Bounded dedupe store for Idempotency-Key requests: the first request with a key runs, later ones with the same key
+// and body get its response replayed (waiting for it if it is still running). Failed attempts are forgotten so the
+// client can retry them. Entries live in this process only.
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> entries;
+    private final ObjectMapper objectMapper;
+    private final Duration inFlightWait;
+
+    @Autowired
+    public IdempotencyStore(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${trainers.idempotency.maximum-size:10000}") long maximumSize,
+                            @Value("${trainers.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${trainers.idempotency.in-flight-wait:10s}") Duration inFlightWait) {
+        this.objectMapper = objectMapper;
+        this.inFlightWait = inFlightWait;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "idempotencyKeys");
+    }
+
+    // scope keeps keys of different endpoints apart; request is fingerprinted to catch a key reused for another body
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request, Supplier<ResponseEntity<T>> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidTrainerDataException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String cacheKey = scope + ' ' + key;
+        Entry fresh = new Entry(fingerprint(request));
+        Entry existing = entries.asMap().putIfAbsent(cacheKey, fresh);
+        if (existing != null) {
+            return replay(existing, fresh.fingerprint);
+        }
+
+        try {
+            ResponseEntity<T> response = action.get();
+            fresh.response.complete(response);
+            return response;
+        } catch (RuntimeException ex) {
+            entries.asMap().remove(cacheKey, fresh);
+            fresh.response.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ResponseEntity<T> replay(Entry entry, byte[] fingerprint) {
+        if (!Arrays.equals(entry.fingerprint, fingerprint)) {
+            throw new InvalidTrainerDataException(HEADER + " was already used for a different request");
+        }
+        ResponseEntity<?> original;
+        try {
+            original = entry.response.get(inFlightWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            // The original attempt failed while we waited: report the same failure
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new ServiceBusyException("A request with this " + HEADER + " is still in progress");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting for the original request");
+        }
+        return (ResponseEntity<T>) ResponseEntity.status(original.getStatusCode())
+                .headers(headers -> {
+                    headers.addAll(original.getHeaders());
+                    headers.set(REPLAYED_HEADER, "true");
+                })
+                .body(original.getBody());
+    }
+
+    private byte[] fingerprint(Object request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Cannot fingerprint request", ex);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] fingerprint;
+        private final CompletableFuture<ResponseEntity<?>> response = new CompletableFuture<>();
+
+        private Entry(byte[] fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.entity.Skill;
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.repository.SkillRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Interns free-text specializations into the skills table and keeps each trainer's skill links in sync
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+public class SkillDictionary {
+
+    private final SkillRepository skillRepository;
+
+    @Autowired
+    public SkillDictionary(SkillRepository skillRepository) {
+        this.skillRepository = skillRepository;
+    }
+
+    // Resolves the skills of all given trainers with one lookup, so bulk imports intern a chunk at a time
+    public void syncSkills(Collection<Trainer> trainers) {
+        List<String> specializations = trainers.stream()
+                .map(Trainer::getSpecializations)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, Skill> skillsByName = intern(specializations);
+
+        for (Trainer trainer : trainers) {
+            Set<Skill> target = trainer.getSpecializations() == null ? Set.of() : trainer.getSpecializations().stream()
+                    .filter(Objects::nonNull)
+                    .map(specialization -> skillsByName.get(Skill.normalize(specialization)))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            // Diff in place so Hibernate only touches the join rows that changed
+            trainer.getSkills().retainAll(target);
+            trainer.getSkills().addAll(target);
+        }
+    }
+
+    public Map<String, Skill> intern(Collection<String> specializations) {
+        Map<String, String> displayNames = new LinkedHashMap<>();
+        for (String specialization : specializations) {
+            String name = Skill.normalize(specialization);
+            if (!name.isEmpty()) {
+                displayNames.putIfAbsent(name, specialization.trim());
+            }
+        }
+        if (displayNames.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Skill> skills = new HashMap<>(findByNames(displayNames.keySet()));
+        List<String> missing = displayNames.keySet().stream().filter(name -> !skills.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            missing.forEach(name -> skillRepository.insertIfAbsent(name, displayNames.get(name)));
+            skills.putAll(findByNames(missing));
+        }
+        for (String name : missing) {
+            if (!skills.containsKey(name)) {
+                // The insert was ignored for a row the collation equates with this name but normalize() does not
+                // (ß and ss, say): that row is the skill. Nothing found means the name cannot be interned at all.
+                Skill skill = skillRepository.findByName(name).orElseThrow(() ->
+                        new IllegalStateException("Specialization could not be interned as a skill: " + name));
+                skills.put(name, skill);
+            }
+        }
+        return skills;
+    }
+
+    // Keyed by the normalized form, which rows backfilled by data.sql (lower-cased only) may not be stored in
+    private Map<String, Skill> findByNames(Collection<String> names) {
+        return skillRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(skill -> Skill.normalize(skill.getName()), Function.identity()));
+    }
+}
@@ -0,0 +1,224 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.BulkImportReport;
+import com.cts.trainers_application.dto.BulkImportResult;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import com.cts.trainers_application.repository.TrainerRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Imports trainers from a JSON array or NDJSON stream in chunks, each persisted with JDBC batching
+@Service
+public class TrainerBulkImportService {
+
+    private final TrainerRepository trainerRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SkillDictionary skillDictionary;
+    private final int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public TrainerBulkImportService(TrainerRepository trainerRepository,
+                                    Validator validator,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    ApplicationEventPublisher eventPublisher,
+                                    SkillDictionary skillDictionary,
+                                    @Value("${trainers.bulk.batch-size:500}") int batchSize) {
+        this.trainerRepository = trainerRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.skillDictionary = skillDictionary;
+        this.batchSize = batchSize;
+    }
+
+    public BulkImportReport importTrainers(InputStream payload) {
+        List<BulkImportResult> results = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<PendingTrainer> chunk = new ArrayList<>(batchSize);
+        int index = 0;
+
+        // readValues unwraps a top-level JSON array and also reads whitespace-separated (NDJSON) values
+        try (MappingIterator<Trainer> records = objectMapper.readerFor(Trainer.class).readValues(payload)) {
+            while (records.hasNextValue()) {
+                Trainer trainer;
+                try {
+                    trainer = records.nextValue();
+                } catch (JsonProcessingException ex) {
+                    // The parser cannot reliably resynchronise after malformed input, so stop here
+                    results.add(BulkImportResult.rejected(index, null, BulkImportResult.Outcome.INVALID,
+                            "Malformed record: " + ex.getOriginalMessage()));
+                    break;
+                }
+
+                String problem = validate(trainer);
+                if (problem != null) {
+                    results.add(BulkImportResult.rejected(index, trainer == null ? null : trainer.getEmail(),
+                            BulkImportResult.Outcome.INVALID, problem));
+                } else if (!seenEmails.add(normalizeEmail(trainer.getEmail()))) {
+                    results.add(BulkImportResult.rejected(index, trainer.getEmail(),
+                            BulkImportResult.Outcome.DUPLICATE, "Email appears earlier in this import"));
+                } else {
+                    chunk.add(new PendingTrainer(index, trainer));
+                    if (chunk.size() == batchSize) {
+                        importChunk(chunk, results);
+                        chunk.clear();
+                    }
+                }
+                index++;
+            }
+        } catch (IOException ex) {
+            throw new InvalidTrainerDataException("Unable to read bulk import payload", ex);
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, results);
+        }
+
+        results.sort((left, right) -> Integer.compare(left.index(), right.index()));
+        return BulkImportReport.of(results);
+    }
+
+    private String validate(Trainer trainer) {
+        if (trainer == null) {
+            return "Record is empty";
+        }
+        Set<ConstraintViolation<Trainer>> violations = validator.validate(trainer);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        try {
+            TrainerService.validateTrainerData(trainer);
+            return null;
+        } catch (InvalidTrainerDataException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private void importChunk(List<PendingTrainer> chunk, List<BulkImportResult> results) {
+        // One IN query per chunk instead of an existsByEmail round trip per record
+        Set<String> existingEmails = trainerRepository.findExistingEmails(
+                        chunk.stream().map(pending -> pending.trainer().getEmail()).toList())
+                .stream()
+                .map(TrainerBulkImportService::normalizeEmail)
+                .collect(Collectors.toSet());
+
+        List<PendingTrainer> toInsert = new ArrayList<>(chunk.size());
+        for (PendingTrainer pending : chunk) {
+            if (existingEmails.contains(normalizeEmail(pending.trainer().getEmail()))) {
+                results.add(BulkImportResult.rejected(pending.index(), pending.trainer().getEmail(),
+                        BulkImportResult.Outcome.DUPLICATE, "Trainer with email " + pending.trainer().getEmail() + " already exists"));
+            } else {
+                toInsert.add(pending);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(toInsert));
+            for (PendingTrainer pending : toInsert) {
+                results.add(BulkImportResult.created(pending.index(), pending.trainer().getEmail(),
+                        pending.trainer().getId()));
+            }
+        } catch (DataIntegrityViolationException ex) {
+            // The email pre-check is not atomic: a concurrent insert can still win. The chunk was rolled back,
+            // so retry its rows one at a time and report each one on its own.
+            for (PendingTrainer pending : toInsert) {
+                results.add(importOne(pending));
+            }
+        } catch (DataAccessException ex) {
+            for (PendingTrainer pending : toInsert) {
+                results.add(BulkImportResult.rejected(pending.index(), pending.trainer().getEmail(),
+                        BulkImportResult.Outcome.FAILED, "Chunk rolled back: " + ex.getMostSpecificCause().getMessage()));
+            }
+        }
+    }
+
+    private BulkImportResult importOne(PendingTrainer pending) {
+        Trainer trainer = pending.trainer();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(List.of(pending)));
+            return BulkImportResult.created(pending.index(), trainer.getEmail(), trainer.getId());
+        } catch (DataIntegrityViolationException ex) {
+            if (ex.getCause() instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                return BulkImportResult.rejected(pending.index(), trainer.getEmail(),
+                        BulkImportResult.Outcome.DUPLICATE, "Trainer with email " + trainer.getEmail() + " already exists");
+            }
+            return BulkImportResult.rejected(pending.index(), trainer.getEmail(),
+                    BulkImportResult.Outcome.FAILED, ex.getMostSpecificCause().getMessage());
+        } catch (DataAccessException ex) {
+            return BulkImportResult.rejected(pending.index(), trainer.getEmail(),
+                    BulkImportResult.Outcome.FAILED, ex.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private void insertBatch(List<PendingTrainer> batch) {
+        List<Trainer> trainers = new ArrayList<>(batch.size());
+        for (PendingTrainer pending : batch) {
+            Trainer trainer = pending.trainer();
+            // Never let an imported record overwrite an existing row. Also undoes what a rolled-back attempt
+            // left behind: its id, its version (which would make save() merge) and skills from that session.
+            trainer.setId(null);
+            trainer.setVersion(null);
+            trainer.getSkills().clear();
+            trainer.setApplicationStatus(ApplicationStatus.PENDING);
+            trainers.add(trainer);
+        }
+        skillDictionary.syncSkills(trainers);
+
+        // Ids come from the pooled allocator, so Hibernate groups trainers and collection rows into JDBC batches
+        trainerRepository.saveAll(trainers);
+
+        // The outbox writer persists its rows now; the other listeners run after this chunk's transaction commits
+        for (Trainer trainer : trainers) {
+            eventPublisher.publishEvent(TrainerChangeEvent.created(TrainerSnapshot.of(trainer)));
+        }
+        // Through the repository so a constraint violation surfaces as a translated DataIntegrityViolationException
+        trainerRepository.flush();
+        entityManager.clear();
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private record PendingTrainer(int index, Trainer trainer) {}
+}
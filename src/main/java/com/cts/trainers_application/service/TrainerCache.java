@@ -0,0 +1,84 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+// Node-local cache of detached trainers by id, plus an email -> id index. Writes on this node invalidate it after
+// commit; writes on other nodes do not, so unless trainers.single-node is set entries expire after
+// trainers.cache.max-staleness, which bounds how long such a write can go unseen here
+@Component
+public class TrainerCache {
+
+    private final Cache<Long, Trainer> trainersById;
+    private final Cache<String, Long> idsByEmail;
+
+    @Autowired
+    public TrainerCache(MeterRegistry meterRegistry,
+                        @Value("${trainers.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${trainers.cache.ttl:10m}") Duration ttl,
+                        @Value("${trainers.cache.max-staleness:5s}") Duration maxStaleness,
+                        @Value("${trainers.single-node:false}") boolean singleNode) {
+        Duration expiry = singleNode ? ttl : maxStaleness;
+        this.trainersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expiry)
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expiry)
+                .recordStats()
+                .build();
+        // Published as cache.gets{result=hit|miss}, cache.evictions, cache.size under /actuator/metrics
+        CaffeineCacheMetrics.monitor(meterRegistry, trainersById, "trainersById");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEmail, "trainerIdsByEmail");
+    }
+
+    // The loader runs on a miss only; a missing trainer (null) is not cached
+    public Trainer get(Long id, Function<Long, Trainer> loader) {
+        return trainersById.get(id, loader);
+    }
+
+    public void invalidate(Long id) {
+        trainersById.invalidate(id);
+    }
+
+    public void invalidateEmail(String email) {
+        idsByEmail.invalidate(normalizeEmail(email));
+    }
+
+    public Long getIdByEmail(String email, Function<String, Long> loader) {
+        return idsByEmail.get(normalizeEmail(email), loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTrainerChanged(TrainerChangeEvent event) {
+        trainersById.invalidate(event.trainerId());
+        invalidateEmail(event.before());
+        invalidateEmail(event.after());
+    }
+
+    private void invalidateEmail(TrainerSnapshot snapshot) {
+        if (snapshot != null && snapshot.email() != null) {
+            idsByEmail.invalidate(normalizeEmail(snapshot.email()));
+        }
+    }
+
+    // MySQL compares emails case-insensitively, so the cache key does too
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
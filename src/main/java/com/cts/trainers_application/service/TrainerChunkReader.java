@@ -0,0 +1,54 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.repository.TrainerRepository;
+import com.cts.trainers_application.repository.TrainerSortKey;
+import com.cts.trainers_application.repository.TrainerSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+import java.util.function.Function;
+
+// Walks the trainers table in id order, one short read-only transaction per chunk
+@Component
+public class TrainerChunkReader {
+
+    private final TrainerRepository trainerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public TrainerChunkReader(TrainerRepository trainerRepository, PlatformTransactionManager transactionManager) {
+        this.trainerRepository = trainerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // The mapper runs while the chunk is still attached (lazy collections can load); afterwards the
+    // persistence context is cleared so only the mapped rows stay on the heap
+    public <T> Chunk<T> readChunk(Specification<Trainer> filter, Long afterId, int size, Function<Trainer, T> mapper) {
+        return readOnlyTransaction.execute(status -> {
+            Specification<Trainer> spec = afterId == null ? filter : filter.and(TrainerSpecifications.idGreaterThan(afterId));
+            List<Trainer> trainers = trainerRepository.findBy(spec,
+                    query -> query.sortBy(TrainerSortKey.ID.toSort(false)).limit(size).all());
+            List<T> rows = trainers.stream().map(mapper).toList();
+            Long lastId = trainers.isEmpty() ? afterId : trainers.get(trainers.size() - 1).getId();
+            entityManager.clear();
+            return new Chunk<>(rows, lastId);
+        });
+    }
+
+    public record Chunk<T>(List<T> rows, Long lastId) {
+
+        public boolean isEmpty() {
+            return rows.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Fans committed trainer changes out to SSE subscribers. Recent events stay in a ring buffer for Last-Event-ID resume;
+// each subscriber has its own bounded queue, and a subscriber whose queue overflows is disconnected so it resumes
+// from the ring buffer instead of slowing everyone else down.
+@Component
+public class TrainerEventBroadcaster implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainerEventBroadcaster.class);
+
+    private final int subscriberQueueSize;
+    private final RingBuffer history;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Sends block on the client socket, so each subscriber drains on its own virtual thread
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor();
+    private final Object publishLock = new Object();
+
+    // Event ids are "<instance>-<sequence>". The instance part is random per process, so an id issued before a
+    // restart or by another node (a reconnect may land anywhere behind a load balancer) is recognised as unknown
+    private final String instance = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private long lastSequence;
+
+    @Autowired
+    public TrainerEventBroadcaster(@Value("${trainers.events.history-size:1024}") int historySize,
+                                   @Value("${trainers.events.subscriber-queue-size:256}") int subscriberQueueSize,
+                                   @Value("${trainers.events.heartbeat:15s}") Duration heartbeat) {
+        this.history = new RingBuffer(historySize);
+        this.subscriberQueueSize = subscriberQueueSize;
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTrainerChanged(TrainerChangeEvent event) {
+        synchronized (publishLock) {
+            Published published = new Published(++lastSequence, event);
+            history.add(published);
+            subscribers.forEach(subscriber -> subscriber.enqueue(published));
+        }
+    }
+
+    // Replays everything after lastEventId that is still retained. An id this process did not issue, or whose
+    // successors are no longer retained, gets a reset instead: the client has to re-sync.
+    public SseEmitter subscribe(String lastEventId) {
+        synchronized (publishLock) {
+            List<Published> missed = List.of();
+            boolean gap = false;
+            if (lastEventId != null) {
+                Long sequence = sequenceOf(lastEventId);
+                missed = sequence == null ? null : history.after(sequence);
+                gap = missed == null;
+            }
+            // The replay gets room on top of the live queue, so a long catch-up does not count as falling behind
+            int capacity = subscriberQueueSize + (gap ? 1 : missed.size());
+            Subscriber subscriber = new Subscriber(new SseEmitter(0L), capacity);
+            subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+            subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+            subscriber.emitter.onError(ex -> subscribers.remove(subscriber));
+            if (gap) {
+                subscriber.enqueue(Published.RESET);
+            } else {
+                missed.forEach(subscriber::enqueue);
+            }
+            subscribers.add(subscriber);
+            return subscriber.emitter;
+        }
+    }
+
+    // The sequence of an id issued by this process, or null for any other id
+    private Long sequenceOf(String eventId) {
+        String prefix = instance + "-";
+        if (!eventId.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            long sequence = Long.parseLong(eventId.substring(prefix.length()));
+            return sequence < 0 || sequence > lastSequence ? null : sequence;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void sendHeartbeats() {
+        subscribers.forEach(subscriber -> subscriber.enqueue(Published.HEARTBEAT));
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.close(null));
+        senders.shutdownNow();
+    }
+
+    // id is the sequence within this process; 0 marks the control messages, which are never stored in the history
+    private record Published(long id, TrainerChangeEvent event) {
+        private static final Published HEARTBEAT = new Published(0, null);
+        private static final Published RESET = new Published(0, null);
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Published> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        // Never blocks the publisher: a full queue means the client cannot keep up, so it is dropped
+        void enqueue(Published published) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(published)) {
+                if (published != Published.HEARTBEAT) {
+                    log.info("Dropping slow SSE subscriber after {} queued events", queue.size());
+                    close(null);
+                }
+                return;
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Published next;
+                while (!closed && (next = queue.poll()) != null) {
+                    try {
+                        send(next);
+                    } catch (IOException | IllegalStateException ex) {
+                        close(ex); // client went away
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!closed && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void send(Published published) throws IOException {
+            if (published == Published.HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else if (published == Published.RESET) {
+                emitter.send(SseEmitter.event()
+                        .name("reset")
+                        .data("Events after the given id are unknown here or no longer retained; re-sync"));
+            } else {
+                emitter.send(SseEmitter.event()
+                        .id(instance + "-" + published.id())
+                        .name(published.event().type().name().toLowerCase(Locale.ROOT))
+                        .data(published.event(), MediaType.APPLICATION_JSON));
+            }
+        }
+
+        void close(Throwable failure) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+            if (failure == null) {
+                emitter.complete();
+            } else {
+                emitter.completeWithError(failure);
+            }
+        }
+    }
+
+    // Fixed-capacity history of published events, oldest overwritten first; guarded by publishLock
+    private static final class RingBuffer {
+        private final Published[] slots;
+        private final int capacity;
+        private int next;
+        private int size;
+
+        private RingBuffer(int capacity) {
+            this.capacity = capacity;
+            this.slots = new Published[capacity];
+        }
+
+        void add(Published published) {
+            slots[next] = published;
+            next = (next + 1) % capacity;
+            size = Math.min(size + 1, capacity);
+        }
+
+        // Events with id > afterId in order, or null when events after afterId were already overwritten (a gap)
+        List<Published> after(long afterId) {
+            List<Published> result = new ArrayList<>();
+            if (size == 0) {
+                return result;
+            }
+            int oldest = (next - size + capacity) % capacity;
+            if (afterId < slots[oldest].id() - 1) {
+                return null;
+            }
+            for (int i = 0; i < size; i++) {
+                Published published = slots[(oldest + i) % capacity];
+                if (published.id() > afterId) {
+                    result.add(published);
+                }
+            }
+            return result;
+        }
+    }
+}
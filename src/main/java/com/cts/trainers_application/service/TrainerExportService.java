@@ -0,0 +1,135 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import com.cts.trainers_application.repository.TrainerSpecifications;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Streams every trainer as NDJSON or CSV with heap use bounded by one chunk
+@Service
+public class TrainerExportService {
+
+    private static final String CSV_HEADER = String.join(",",
+            "id", "firstName", "lastName", "email", "phoneNumber", "dateOfBirth", "address", "city", "state",
+            "country", "postalCode", "highestQualification", "yearsOfExperience", "specializations",
+            "certifications", "previousCompany", "additionalNotes", "applicationStatus", "salaryExpectation",
+            "availableForTravel", "createdAt", "updatedAt");
+
+    private final TrainerChunkReader chunkReader;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    @Autowired
+    public TrainerExportService(TrainerChunkReader chunkReader, ObjectMapper objectMapper,
+                                @Value("${trainers.export.chunk-size:1000}") int chunkSize) {
+        this.chunkReader = chunkReader;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public void export(Format format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        Function<Trainer, String> formatter = format == Format.CSV ? this::toCsvLine : this::toJsonLine;
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        // Rows are formatted inside the chunk's transaction, written after it so a slow client never holds a connection
+        Long lastId = null;
+        TrainerChunkReader.Chunk<String> chunk;
+        while (!(chunk = chunkReader.readChunk(TrainerSpecifications.all(), lastId, chunkSize, formatter)).isEmpty()) {
+            for (String line : chunk.rows()) {
+                writer.write(line);
+                writer.write('\n');
+            }
+            writer.flush();
+            lastId = chunk.lastId();
+        }
+        writer.flush();
+    }
+
+    private String toJsonLine(Trainer trainer) {
+        try {
+            return objectMapper.writeValueAsString(trainer);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String toCsvLine(Trainer trainer) {
+        return Stream.of(
+                        trainer.getId(), trainer.getFirstName(), trainer.getLastName(), trainer.getEmail(),
+                        trainer.getPhoneNumber(), trainer.getDateOfBirth(), trainer.getAddress(), trainer.getCity(),
+                        trainer.getState(), trainer.getCountry(), trainer.getPostalCode(),
+                        trainer.getHighestQualification(), trainer.getYearsOfExperience(),
+                        joinList(trainer.getSpecializations()), joinList(trainer.getCertifications()),
+                        trainer.getPreviousCompany(), trainer.getAdditionalNotes(), trainer.getApplicationStatus(),
+                        trainer.getSalaryExpectation(), trainer.getAvailableForTravel(), trainer.getCreatedAt(),
+                        trainer.getUpdatedAt())
+                .map(TrainerExportService::csvField)
+                .collect(Collectors.joining(","));
+    }
+
+    private static String joinList(List<String> values) {
+        return values == null ? null : String.join(";", values);
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = Objects.toString(value);
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String fileExtension;
+
+        Format(MediaType mediaType, String fileExtension) {
+            this.mediaType = mediaType;
+            this.fileExtension = fileExtension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getFileExtension() {
+            return fileExtension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.fileExtension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new InvalidTrainerDataException("Unsupported export format: " + value + " (use ndjson or csv)");
+        }
+    }
+}
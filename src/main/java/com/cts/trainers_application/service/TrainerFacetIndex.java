@@ -0,0 +1,295 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.TrainerFacets;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.CollationKeys;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.repository.TrainerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory bitmap index over the low-cardinality trainer facets plus salary, keyed by trainer id.
+// Like TrainerNameIndex, it is resynced on a schedule with writes made on other nodes unless single-node.
+@Component
+public class TrainerFacetIndex implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainerFacetIndex.class);
+
+    private static final int REBUILD_CHUNK_SIZE = 10_000;
+    private static final int MAX_YEARS = 50;
+    private static final int NO_CITY = -1;
+
+    private final TrainerRepository trainerRepository;
+    private final TrainerWriteGeneration writeGeneration;
+    private final boolean singleNode;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Index index = new Index();
+    // Write generation read before the last rebuild; null when single-node
+    private volatile String indexedGeneration;
+
+    @Autowired
+    public TrainerFacetIndex(TrainerRepository trainerRepository, TrainerWriteGeneration writeGeneration,
+                             @Value("${trainers.single-node:false}") boolean singleNode) {
+        this.trainerRepository = trainerRepository;
+        this.writeGeneration = writeGeneration;
+        this.singleNode = singleNode;
+    }
+
+    // Runs once all beans are ready, before the web server starts accepting requests
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        String generation = singleNode ? null : writeGeneration.current();
+        Index fresh = new Index();
+        long afterId = 0L;
+        List<TrainerSnapshot> chunk;
+        while (!(chunk = trainerRepository.findSnapshotsAfter(afterId, REBUILD_CHUNK_SIZE)).isEmpty()) {
+            chunk.forEach(fresh::add);
+            afterId = chunk.get(chunk.size() - 1).id();
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        indexedGeneration = generation;
+        log.info("Rebuilt trainer facet index");
+    }
+
+    @Scheduled(fixedDelayString = "${trainers.index.resync-interval:30s}",
+               initialDelayString = "${trainers.index.resync-interval:30s}")
+    public void resync() {
+        if (!singleNode && !writeGeneration.current().equals(indexedGeneration)) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTrainerChanged(TrainerChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.before() != null) {
+                index.remove(event.before());
+            }
+            if (event.after() != null) {
+                index.add(event.after());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ids matching every given facet filter; null or empty filters match everything
+    public BitSet match(Collection<ApplicationStatus> statuses, Collection<String> cities,
+                        Integer minYears, Integer maxYears, Boolean availableForTravel,
+                        Double minSalary, Double maxSalary) {
+        lock.readLock().lock();
+        try {
+            return index.match(statuses, cities, minYears, maxYears, availableForTravel, minSalary, maxSalary);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public TrainerFacets facets(BitSet matches) {
+        lock.readLock().lock();
+        try {
+            return index.facets(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static int bitOf(Long id) {
+        return Math.toIntExact(id);
+    }
+
+    // Status, years and travel are a handful of dense bitmaps; city has too many values for a bitmap each,
+    // so it is a per-id ordinal column checked only against bits that survived the other filters. Salary is a
+    // per-id value column checked the same way (NaN when the trainer has none).
+    private static final class Index {
+        private final BitSet all = new BitSet();
+        private final Map<ApplicationStatus, BitSet> byStatus = new EnumMap<>(ApplicationStatus.class);
+        private final BitSet[] byYears = new BitSet[MAX_YEARS + 1];
+        private final BitSet travel = new BitSet();
+        private final Map<String, Integer> cityOrdinals = new HashMap<>();
+        private final List<String> cityNames = new ArrayList<>(); // ordinal -> first spelling seen
+        private int[] cityByBit = new int[1024];
+        private double[] salaryByBit = new double[1024];
+
+        private Index() {
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                byStatus.put(status, new BitSet());
+            }
+            for (int years = 0; years <= MAX_YEARS; years++) {
+                byYears[years] = new BitSet();
+            }
+            Arrays.fill(salaryByBit, Double.NaN);
+        }
+
+        void add(TrainerSnapshot trainer) {
+            int bit = bitOf(trainer.id());
+            all.set(bit);
+            byStatus.get(trainer.applicationStatus()).set(bit);
+            byYears[clampYears(trainer.yearsOfExperience())].set(bit);
+            travel.set(bit, Boolean.TRUE.equals(trainer.availableForTravel()));
+            if (bit >= cityByBit.length) {
+                int oldLength = cityByBit.length;
+                int newLength = Math.max(bit + 1, oldLength * 2);
+                cityByBit = Arrays.copyOf(cityByBit, newLength);
+                Arrays.fill(cityByBit, oldLength, newLength, NO_CITY);
+                salaryByBit = Arrays.copyOf(salaryByBit, newLength);
+                Arrays.fill(salaryByBit, oldLength, newLength, Double.NaN);
+            }
+            cityByBit[bit] = cityOrdinal(trainer.city());
+            salaryByBit[bit] = trainer.salaryExpectation() == null ? Double.NaN : trainer.salaryExpectation();
+        }
+
+        void remove(TrainerSnapshot trainer) {
+            int bit = bitOf(trainer.id());
+            all.clear(bit);
+            byStatus.get(trainer.applicationStatus()).clear(bit);
+            byYears[clampYears(trainer.yearsOfExperience())].clear(bit);
+            travel.clear(bit);
+            if (bit < cityByBit.length) {
+                cityByBit[bit] = NO_CITY;
+                salaryByBit[bit] = Double.NaN;
+            }
+        }
+
+        BitSet match(Collection<ApplicationStatus> statuses, Collection<String> cities,
+                     Integer minYears, Integer maxYears, Boolean availableForTravel,
+                     Double minSalary, Double maxSalary) {
+            BitSet result = (BitSet) all.clone();
+            if (statuses != null && !statuses.isEmpty()) {
+                BitSet anyStatus = new BitSet();
+                statuses.forEach(status -> anyStatus.or(byStatus.get(status)));
+                result.and(anyStatus);
+            }
+            if (minYears != null || maxYears != null) {
+                int from = minYears == null ? 0 : clampYears(minYears);
+                int to = maxYears == null ? MAX_YEARS : clampYears(maxYears);
+                BitSet inRange = new BitSet();
+                for (int years = from; years <= to; years++) {
+                    inRange.or(byYears[years]);
+                }
+                result.and(inRange);
+            }
+            if (availableForTravel != null) {
+                if (availableForTravel) {
+                    result.and(travel);
+                } else {
+                    result.andNot(travel);
+                }
+            }
+            if (cities != null && !cities.isEmpty()) {
+                Set<Integer> wanted = new HashSet<>();
+                for (String city : cities) {
+                    Integer ordinal = city == null ? null : cityOrdinals.get(CollationKeys.city(city));
+                    if (ordinal != null) {
+                        wanted.add(ordinal);
+                    }
+                }
+                for (int bit = result.nextSetBit(0); bit >= 0; bit = result.nextSetBit(bit + 1)) {
+                    if (!wanted.contains(cityByBit[bit])) {
+                        result.clear(bit);
+                    }
+                }
+            }
+            if (minSalary != null || maxSalary != null) {
+                double from = minSalary == null ? Double.NEGATIVE_INFINITY : minSalary;
+                double to = maxSalary == null ? Double.POSITIVE_INFINITY : maxSalary;
+                for (int bit = result.nextSetBit(0); bit >= 0; bit = result.nextSetBit(bit + 1)) {
+                    // NaN (no salary) fails both comparisons, as NULL fails BETWEEN
+                    double salary = salaryByBit[bit];
+                    if (!(salary >= from && salary <= to)) {
+                        result.clear(bit);
+                    }
+                }
+            }
+            return result;
+        }
+
+        TrainerFacets facets(BitSet matches) {
+            Map<ApplicationStatus, Long> statusCounts = new EnumMap<>(ApplicationStatus.class);
+            byStatus.forEach((status, bits) -> putIfPositive(statusCounts, status, intersectionCount(matches, bits)));
+
+            Map<Integer, Long> experienceCounts = new TreeMap<>();
+            for (int years = 0; years <= MAX_YEARS; years++) {
+                long count = intersectionCount(matches, byYears[years]);
+                if (count > 0) {
+                    experienceCounts.merge(years / 5 * 5, count, Long::sum); // Group by 5-year ranges
+                }
+            }
+
+            long[] perCity = new long[cityNames.size()];
+            for (int bit = matches.nextSetBit(0); bit >= 0; bit = matches.nextSetBit(bit + 1)) {
+                int ordinal = bit < cityByBit.length ? cityByBit[bit] : NO_CITY;
+                if (ordinal != NO_CITY) {
+                    perCity[ordinal]++;
+                }
+            }
+            Map<String, Long> cityCounts = new LinkedHashMap<>();
+            for (int ordinal = 0; ordinal < perCity.length; ordinal++) {
+                putIfPositive(cityCounts, cityNames.get(ordinal), perCity[ordinal]);
+            }
+            return new TrainerFacets(statusCounts, cityCounts, experienceCounts);
+        }
+
+        private int cityOrdinal(String city) {
+            if (city == null) {
+                return NO_CITY;
+            }
+            // Spellings the column collation treats as equal share an ordinal, as they would in a WHERE
+            return cityOrdinals.computeIfAbsent(CollationKeys.city(city), key -> {
+                cityNames.add(city);
+                return cityNames.size() - 1;
+            });
+        }
+
+        private static int clampYears(Integer years) {
+            return Math.max(0, Math.min(MAX_YEARS, years == null ? 0 : years));
+        }
+
+        private static long intersectionCount(BitSet left, BitSet right) {
+            BitSet both = (BitSet) left.clone();
+            both.and(right);
+            return both.cardinality();
+        }
+
+        private static <K> void putIfPositive(Map<K, Long> target, K key, long value) {
+            if (value > 0) {
+                target.put(key, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.TrainerName;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.repository.TrainerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-process trigram index over trainer names: prefix, infix and fuzzy lookup without touching the database.
+// Writes on other nodes never reach onTrainerChanged, so unless trainers.single-node is set the index is rebuilt
+// on a schedule whenever the shared write generation has moved since it was last read.
+@Component
+public class TrainerNameIndex implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainerNameIndex.class);
+
+    private static final int REBUILD_CHUNK_SIZE = 10_000;
+    private static final double PREFIX_SCORE = 3.0;
+    private static final double INFIX_SCORE = 2.0;
+    // Fuzzy matches score their trigram overlap ratio, which is always below INFIX_SCORE
+    private static final double FUZZY_MIN_OVERLAP = 0.5;
+
+    private static final Comparator<Match> BEST_FIRST =
+            Comparator.comparingDouble(Match::score).reversed().thenComparingLong(Match::id);
+
+    private final TrainerRepository trainerRepository;
+    private final TrainerWriteGeneration writeGeneration;
+    private final boolean singleNode;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Index index = new Index();
+    // Write generation read before the last rebuild; null when single-node
+    private volatile String indexedGeneration;
+
+    @Autowired
+    public TrainerNameIndex(TrainerRepository trainerRepository, TrainerWriteGeneration writeGeneration,
+                            @Value("${trainers.single-node:false}") boolean singleNode) {
+        this.trainerRepository = trainerRepository;
+        this.writeGeneration = writeGeneration;
+        this.singleNode = singleNode;
+    }
+
+    // Runs once all beans are ready, before the web server starts accepting requests
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    // Read before the names, so a write that commits during the rebuild moves it and triggers the next one
+    public void rebuild() {
+        String generation = singleNode ? null : writeGeneration.current();
+        Index fresh = new Index();
+        long afterId = 0L;
+        List<TrainerName> chunk;
+        while (!(chunk = trainerRepository.findNamesAfter(afterId, REBUILD_CHUNK_SIZE)).isEmpty()) {
+            for (TrainerName name : chunk) {
+                fresh.add(name.id(), name.firstName(), name.lastName());
+            }
+            afterId = chunk.get(chunk.size() - 1).id();
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        indexedGeneration = generation;
+        log.info("Rebuilt trainer name index");
+    }
+
+    @Scheduled(fixedDelayString = "${trainers.index.resync-interval:30s}",
+               initialDelayString = "${trainers.index.resync-interval:30s}")
+    public void resync() {
+        if (!singleNode && !writeGeneration.current().equals(indexedGeneration)) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTrainerChanged(TrainerChangeEvent event) {
+        if (event.type() == TrainerChangeEvent.Type.STATUS_CHANGED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.remove(event.trainerId());
+            TrainerSnapshot after = event.after();
+            if (after != null) {
+                index.add(after.id(), after.firstName(), after.lastName());
+            }
+            index.compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Returns trainer ids best match first: name prefixes, then infixes, then (optionally) fuzzy matches
+    public List<Long> search(String query, boolean fuzzy, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return index.search(normalized, fuzzy, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Lower-case, accents stripped, whitespace collapsed
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return decomposed.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    // Trigrams of the text plus a two-character " x" gram at every word start, so one-letter prefixes resolve too
+    private static Set<String> indexGrams(String text) {
+        Set<String> grams = trigrams(text);
+        for (int i = 0; i + 1 < text.length(); i++) {
+            if (text.charAt(i) == ' ') {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private record Entry(long id, String firstName, String lastName, String text) {}
+
+    private record Match(long id, double score) {}
+
+    private static final class Index {
+        private final List<Entry> entries = new ArrayList<>(); // slot -> entry, null once removed
+        private final Map<Long, Integer> slotsById = new HashMap<>();
+        private final Map<String, IntList> postings = new HashMap<>();
+        private int removedSlots;
+
+        void add(Long id, String firstName, String lastName) {
+            String first = normalize(firstName);
+            String last = normalize(lastName);
+            // Leading space marks the start of the first word
+            addEntry(new Entry(id, first, last, " " + first + " " + last));
+        }
+
+        private void addEntry(Entry entry) {
+            int slot = entries.size();
+            entries.add(entry);
+            slotsById.put(entry.id(), slot);
+            for (String gram : indexGrams(entry.text())) {
+                postings.computeIfAbsent(gram, key -> new IntList()).add(slot);
+            }
+        }
+
+        // Postings keep pointing at the dead slot until the next compaction; search skips it
+        void remove(Long id) {
+            Integer slot = slotsById.remove(id);
+            if (slot != null) {
+                entries.set(slot, null);
+                removedSlots++;
+            }
+        }
+
+        void compactIfNeeded() {
+            if (removedSlots < 1024 || removedSlots < entries.size() / 4) {
+                return;
+            }
+            List<Entry> live = entries.stream().filter(Objects::nonNull).toList();
+            entries.clear();
+            slotsById.clear();
+            postings.clear();
+            removedSlots = 0;
+            live.forEach(this::addEntry);
+        }
+
+        List<Long> search(String query, boolean fuzzy, int limit) {
+            PriorityQueue<Match> best = new PriorityQueue<>(BEST_FIRST.reversed());
+            Set<Integer> matchedSlots = new LinkedHashSet<>();
+
+            // Exact pass: scan the rarest gram's posting list and verify each candidate
+            boolean prefixOnly = query.length() < 3;
+            Set<String> queryGrams = prefixOnly ? Set.of(" " + query) : trigrams(query);
+            IntList candidates = rarestPosting(queryGrams);
+            if (candidates != null) {
+                for (int i = 0; i < candidates.size; i++) {
+                    int slot = candidates.values[i];
+                    Entry entry = entries.get(slot);
+                    if (entry == null) {
+                        continue;
+                    }
+                    double score = exactScore(entry, query, prefixOnly);
+                    if (score > 0 && matchedSlots.add(slot)) {
+                        offer(best, new Match(entry.id(), score), limit);
+                    }
+                }
+            }
+
+            if (fuzzy && !prefixOnly) {
+                Set<String> fuzzyGrams = trigrams(" " + query);
+                Map<Integer, Integer> overlaps = new HashMap<>();
+                for (String gram : fuzzyGrams) {
+                    IntList posting = postings.get(gram);
+                    if (posting != null) {
+                        for (int i = 0; i < posting.size; i++) {
+                            overlaps.merge(posting.values[i], 1, Integer::sum);
+                        }
+                    }
+                }
+                overlaps.forEach((slot, overlap) -> {
+                    Entry entry = entries.get(slot);
+                    double score = (double) overlap / fuzzyGrams.size();
+                    if (entry != null && score >= FUZZY_MIN_OVERLAP && !matchedSlots.contains(slot)) {
+                        offer(best, new Match(entry.id(), score), limit);
+                    }
+                });
+            }
+
+            List<Match> ranked = new ArrayList<>(best);
+            ranked.sort(BEST_FIRST);
+            return ranked.stream().map(Match::id).toList();
+        }
+
+        private IntList rarestPosting(Set<String> grams) {
+            IntList rarest = null;
+            for (String gram : grams) {
+                IntList posting = postings.get(gram);
+                if (posting == null) {
+                    return null; // a gram no name contains: no exact match possible
+                }
+                if (rarest == null || posting.size < rarest.size) {
+                    rarest = posting;
+                }
+            }
+            return rarest;
+        }
+
+        private static double exactScore(Entry entry, String query, boolean prefixOnly) {
+            if (entry.firstName().startsWith(query) || entry.lastName().startsWith(query)
+                    || entry.text().startsWith(" " + query)) {
+                return PREFIX_SCORE;
+            }
+            if (prefixOnly) {
+                return entry.text().contains(" " + query) ? PREFIX_SCORE : 0;
+            }
+            return entry.text().contains(query) ? INFIX_SCORE : 0;
+        }
+
+        // Keeps only the 'limit' best matches; the queue head is the worst one kept
+        private static void offer(PriorityQueue<Match> best, Match match, int limit) {
+            best.offer(match);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
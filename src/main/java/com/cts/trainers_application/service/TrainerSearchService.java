@@ -0,0 +1,81 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.TrainerFacets;
+import com.cts.trainers_application.dto.TrainerSearchRequest;
+import com.cts.trainers_application.dto.TrainerSearchResult;
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+// Multi-criteria search: every filter is answered by the in-memory facet and skill indexes; only the page is read
+// from the database
+@Service
+@Transactional(readOnly = true)
+public class TrainerSearchService {
+
+    private final TrainerFacetIndex facetIndex;
+    private final TrainerSkillIndex skillIndex;
+    private final TrainerSummaryReader summaryReader;
+
+    @Autowired
+    public TrainerSearchService(TrainerFacetIndex facetIndex, TrainerSkillIndex skillIndex,
+                                TrainerSummaryReader summaryReader) {
+        this.facetIndex = facetIndex;
+        this.skillIndex = skillIndex;
+        this.summaryReader = summaryReader;
+    }
+
+    public TrainerSearchResult search(TrainerSearchRequest request, Class<?> view) {
+        BitSet matches = matchIds(request);
+
+        long total = matches.cardinality();
+        TrainerFacets facets = facetIndex.facets(matches);
+        List<Long> pageIds = pageOf(matches, request.getPage(), request.getSize());
+        int totalPages = (int) ((total + request.getSize() - 1) / request.getSize());
+        return new TrainerSearchResult(summaryReader.findInOrder(pageIds, view), request.getPage(), request.getSize(), total,
+                totalPages, facets);
+    }
+
+    // Every matching trainer id as a bit, ignoring the request's paging
+    public BitSet matchIds(TrainerSearchRequest request) {
+        validateRanges(request);
+
+        BitSet matches = facetIndex.match(request.getStatuses(), request.getCities(),
+                request.getMinExperience(), request.getMaxExperience(), request.getAvailableForTravel(),
+                request.getMinSalary(), request.getMaxSalary());
+        if (request.getSpecializations() != null && !request.getSpecializations().isEmpty()) {
+            matches.and(skillIndex.matchAny(request.getSpecializations()));
+        }
+        return matches;
+    }
+
+    // Walks set bits in id order, so pages are stable and need no sort
+    private static List<Long> pageOf(BitSet matches, int page, int size) {
+        List<Long> ids = new ArrayList<>(size);
+        long skip = (long) page * size;
+        for (int bit = matches.nextSetBit(0); bit >= 0 && ids.size() < size; bit = matches.nextSetBit(bit + 1)) {
+            if (skip > 0) {
+                skip--;
+            } else {
+                ids.add((long) bit);
+            }
+        }
+        return ids;
+    }
+
+    // VALIDATION
+    private static void validateRanges(TrainerSearchRequest request) {
+        if (request.getMinExperience() != null && request.getMaxExperience() != null
+                && request.getMinExperience() > request.getMaxExperience()) {
+            throw new InvalidTrainerDataException("Minimum experience cannot exceed maximum experience");
+        }
+        if (request.getMinSalary() != null && request.getMaxSalary() != null
+                && request.getMinSalary() > request.getMaxSalary()) {
+            throw new InvalidTrainerDataException("Minimum salary cannot exceed maximum salary");
+        }
+    }
+}
@@ -1,77 +1,218 @@
 package com.cts.trainers_application.service;
 
+import com.cts.trainers_application.dto.SkillMatch;
+import com.cts.trainers_application.dto.TrainerCursor;
+import com.cts.trainers_application.dto.TrainerResponseDTO;
+import com.cts.trainers_application.dto.TrainerStatusChange;
 import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Skill;
 import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.exception.InvalidStatusTransitionException;
 import com.cts.trainers_application.exception.InvalidTrainerDataException;
 import com.cts.trainers_application.exception.TrainerAlreadyExistsException;
 import com.cts.trainers_application.exception.TrainerNotFoundException;
+import com.cts.trainers_application.exception.TrainerVersionMismatchException;
 import com.cts.trainers_application.repository.TrainerRepository;
+import com.cts.trainers_application.repository.TrainerSortKey;
+import com.cts.trainers_application.repository.TrainerSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Service
 @Transactional
 public class TrainerService {
 
+    private static final int MAX_RANKING_LIMIT = 100;
+    private static final int MAX_KEYSET_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_COMPARE_AND_SET_ATTEMPTS = 3;
+
     private final TrainerRepository trainerRepository;
+    private final AnalyticsAggregator analyticsAggregator;
+    private final TrainerCache trainerCache;
+    private final TrainerNameIndex trainerNameIndex;
+    private final TrainerSkillIndex trainerSkillIndex;
+    private final TrainerSummaryReader summaryReader;
+    private final SkillDictionary skillDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TrainerWriteGeneration writeGeneration;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public TrainerService(TrainerRepository trainerRepository) {
+    public TrainerService(TrainerRepository trainerRepository,
+                          AnalyticsAggregator analyticsAggregator,
+                          TrainerCache trainerCache,
+                          TrainerNameIndex trainerNameIndex,
+                          TrainerSkillIndex trainerSkillIndex,
+                          TrainerSummaryReader summaryReader,
+                          SkillDictionary skillDictionary,
+                          ApplicationEventPublisher eventPublisher,
+                          TrainerWriteGeneration writeGeneration) {
         this.trainerRepository = trainerRepository;
+        this.analyticsAggregator = analyticsAggregator;
+        this.trainerCache = trainerCache;
+        this.trainerNameIndex = trainerNameIndex;
+        this.trainerSkillIndex = trainerSkillIndex;
+        this.summaryReader = summaryReader;
+        this.skillDictionary = skillDictionary;
+        this.eventPublisher = eventPublisher;
+        this.writeGeneration = writeGeneration;
     }
 
     // CREATE
+    // No existsByEmail pre-check: the unique index decides, in the same round trip as the insert
     public Trainer createTrainer(Trainer trainer) {
         validateTrainerData(trainer);
 
-        if (trainerRepository.existsByEmail(trainer.getEmail())) {
-            throw new TrainerAlreadyExistsException(trainer.getEmail());
-        }
-
         trainer.setApplicationStatus(ApplicationStatus.PENDING);
-        return trainerRepository.save(trainer);
+        skillDictionary.syncSkills(List.of(trainer));
+        Trainer savedTrainer = saveUniqueEmail(trainer);
+        eventPublisher.publishEvent(TrainerChangeEvent.created(TrainerSnapshot.of(savedTrainer)));
+        return savedTrainer;
     }
 
     // READ
+    // List views get TrainerResponseDTO rows, with specializations unless the view is a summary; the full entity
+    // is only served by id or email
+    @Transactional(readOnly = true)
+    public Page<TrainerResponseDTO> getAllTrainers(Pageable pageable, Class<?> view) {
+        Page<TrainerResponseDTO> page = trainerRepository.findSummaries(pageable);
+        summaryReader.withSpecializations(page.getContent(), view);
+        return page;
+    }
+
+    // Keyset (seek) paging: cost per page is independent of how deep the cursor is, and no COUNT is issued
+    @Transactional(readOnly = true)
+    public Slice<TrainerResponseDTO> getTrainersAfter(TrainerCursor cursor, TrainerSortKey sortKey, boolean descending,
+                                                      int size, Class<?> view) {
+        validatePageSize(size, MAX_KEYSET_PAGE_SIZE);
+        return findAfter(TrainerSpecifications.all(), cursor, sortKey, descending, size, view);
+    }
+
+    // Continues a /search result from the cursor of its previous page; the cursor fixes the sort
+    @Transactional(readOnly = true)
+    public Slice<TrainerResponseDTO> searchTrainersAfter(Specification<Trainer> filter, TrainerCursor cursor, int size,
+                                                         Class<?> view) {
+        validatePageSize(size, MAX_SEARCH_PAGE_SIZE);
+        return findAfter(filter, cursor, cursor.sortKey(), cursor.descending(), size, view);
+    }
+
+    private Slice<TrainerResponseDTO> findAfter(Specification<Trainer> filter, TrainerCursor cursor,
+                                                TrainerSortKey sortKey, boolean descending, int size,
+                                                Class<?> view) {
+        Specification<Trainer> seek = cursor == null ? filter : filter.and(TrainerSpecifications.after(cursor));
+        // One extra row tells us whether another page exists
+        List<TrainerResponseDTO> rows = summaryReader.find(seek, sortKey.toSort(descending), size + 1, view);
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(0, size), hasNext);
+    }
+
+    // Changes whenever a trainer write commits on any node (see TrainerWriteGeneration)
     @Transactional(readOnly = true)
-    public List<Trainer> getAllTrainers() {
-        return trainerRepository.findAll();
+    public String getWriteGeneration() {
+        return writeGeneration.current();
     }
 
     @Transactional(readOnly = true)
-    public Page<Trainer> getAllTrainers(Pageable pageable) {
-        return trainerRepository.findAll(pageable);
+    public long countTrainers() {
+        return trainerRepository.count();
     }
 
     @Transactional(readOnly = true)
     public Trainer getTrainerById(Long id) {
-        return trainerRepository.findById(id)
-                .orElseThrow(() -> new TrainerNotFoundException(id));
+        Trainer trainer = findCurrent(id);
+        if (trainer == null) {
+            throw new TrainerNotFoundException(id);
+        }
+        return trainer;
     }
 
     @Transactional(readOnly = true)
     public Trainer getTrainerByEmail(String email) {
-        return trainerRepository.findByEmail(email)
-                .orElseThrow(() -> new TrainerNotFoundException("Trainer not found with email: " + email));
+        Function<String, Long> lookup = key -> trainerRepository.findIdByEmail(key).orElse(null);
+        Long id = trainerCache.getIdByEmail(email, lookup);
+        Trainer trainer = id == null ? null : findCurrent(id);
+        if (trainer == null || !trainer.getEmail().equalsIgnoreCase(email)) {
+            // The cached mapping may predate a change committed on another node: resolve it from the database once
+            trainerCache.invalidateEmail(email);
+            id = trainerCache.getIdByEmail(email, lookup);
+            trainer = id == null ? null : findCurrent(id);
+        }
+        if (trainer == null) {
+            throw new TrainerNotFoundException("Trainer not found with email: " + email);
+        }
+        return trainer;
     }
 
-    // UPDATE
-    public Trainer updateTrainer(Long id, Trainer updatedTrainer) {
-        Trainer existingTrainer = getTrainerById(id);
+    // A warm id costs no query. Writes on this node evict the entry on commit; a write on another node is visible
+    // once the entry expires (trainers.cache.max-staleness), or at once if an If-Match carrying the old version
+    // fails here, since checkVersion evicts it.
+    private Trainer findCurrent(Long id) {
+        return trainerCache.get(id, this::loadDetached);
+    }
 
-        // Check if email is being changed and if new email already exists
-        if (!existingTrainer.getEmail().equals(updatedTrainer.getEmail())) {
-            if (trainerRepository.existsByEmail(updatedTrainer.getEmail())) {
-                throw new TrainerAlreadyExistsException(updatedTrainer.getEmail());
+    // Cached instances are shared between requests, so they must be fully loaded and detached from this session
+    private Trainer loadDetached(Long id) {
+        return trainerRepository.findById(id)
+                .map(trainer -> {
+                    Hibernate.initialize(trainer.getSpecializations());
+                    Hibernate.initialize(trainer.getCertifications());
+                    entityManager.detach(trainer);
+                    return trainer;
+                })
+                .orElse(null);
+    }
+
+    // A unique-key violation on flush can only be the email (the id is generated); the transaction rolls back
+    private Trainer saveUniqueEmail(Trainer trainer) {
+        try {
+            return trainerRepository.saveAndFlush(trainer);
+        } catch (DataIntegrityViolationException ex) {
+            if (ex.getCause() instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                throw new TrainerAlreadyExistsException(trainer.getEmail());
             }
+            throw ex;
         }
+    }
+
+    // Write paths work on a managed instance from the current session, never on a cached one
+    private Trainer findTrainerOrThrow(Long id) {
+        return trainerRepository.findById(id)
+                .orElseThrow(() -> new TrainerNotFoundException(id));
+    }
+
+    // UPDATE
+    // expectedVersion comes from If-Match; null skips the precondition (a concurrent commit still fails at flush)
+    public Trainer updateTrainer(Long id, Trainer updatedTrainer, Long expectedVersion) {
+        Trainer existingTrainer = findTrainerOrThrow(id);
+        checkVersion(id, existingTrainer.getVersion(), expectedVersion);
+        TrainerSnapshot before = TrainerSnapshot.of(existingTrainer);
 
         validateTrainerData(updatedTrainer);
 
@@ -94,109 +235,175 @@ public class TrainerService {
         existingTrainer.setAdditionalNotes(updatedTrainer.getAdditionalNotes());
         existingTrainer.setSalaryExpectation(updatedTrainer.getSalaryExpectation());
         existingTrainer.setAvailableForTravel(updatedTrainer.getAvailableForTravel());
+        skillDictionary.syncSkills(List.of(existingTrainer));
 
-        return trainerRepository.save(existingTrainer);
+        // Flushed here so the version and email checks run now and the returned version is the new ETag
+        Trainer savedTrainer = saveUniqueEmail(existingTrainer);
+        eventPublisher.publishEvent(TrainerChangeEvent.updated(before, TrainerSnapshot.of(savedTrainer)));
+        return savedTrainer;
     }
 
-    public Trainer updateApplicationStatus(Long id, ApplicationStatus status) {
-        Trainer trainer = getTrainerById(id);
-        trainer.setApplicationStatus(status);
-        return trainerRepository.save(trainer);
+    // Status-only fast path: a projection read plus one compare-and-set UPDATE, the entity is never loaded.
+    // READ COMMITTED so that a retry after a lost race reads the version the other transaction committed.
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public TrainerStatusChange updateApplicationStatus(Long id, ApplicationStatus status, Long expectedVersion) {
+        for (int attempt = 0; attempt < MAX_COMPARE_AND_SET_ATTEMPTS; attempt++) {
+            TrainerSnapshot before = trainerRepository.findSnapshotById(id)
+                    .orElseThrow(() -> new TrainerNotFoundException(id));
+            checkVersion(id, before.version(), expectedVersion);
+            if (before.applicationStatus() == status) {
+                return new TrainerStatusChange(id, status, status, before.version());
+            }
+            if (!before.applicationStatus().canTransitionTo(status)) {
+                throw new InvalidStatusTransitionException(id, before.applicationStatus(), status);
+            }
+            if (trainerRepository.updateStatusIfVersion(id, status, before.version(), LocalDateTime.now()) == 1) {
+                TrainerSnapshot after = before.withStatus(status, before.version() + 1);
+                eventPublisher.publishEvent(TrainerChangeEvent.statusChanged(before, after));
+                return new TrainerStatusChange(id, before.applicationStatus(), status, after.version());
+            }
+            // Lost a race: with If-Match the next read reports the mismatch, otherwise retry on the new version
+        }
+        throw new OptimisticLockingFailureException("Trainer " + id + " kept changing; status update abandoned");
     }
 
-    // DELETE
-    public void deleteTrainer(Long id) {
-        if (!trainerRepository.existsById(id)) {
-            throw new TrainerNotFoundException(id);
+    // DELETE - like the status fast path: a projection read for the listeners, then one compare-and-set DELETE.
+    // The entity and its collections are never loaded.
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void deleteTrainer(Long id, Long expectedVersion) {
+        for (int attempt = 0; attempt < MAX_COMPARE_AND_SET_ATTEMPTS; attempt++) {
+            TrainerSnapshot before = trainerRepository.findSnapshotById(id)
+                    .orElseThrow(() -> new TrainerNotFoundException(id));
+            checkVersion(id, before.version(), expectedVersion);
+            if (trainerRepository.deleteIfVersion(id, before.version()) == 1) {
+                eventPublisher.publishEvent(TrainerChangeEvent.deleted(before));
+                return;
+            }
+            // Lost a race: the next read reports a concurrent delete as 404 and a stale If-Match as a mismatch
+        }
+        throw new OptimisticLockingFailureException("Trainer " + id + " kept changing; delete abandoned");
+    }
+
+    // SEARCH AND FILTER METHODS - one Slice per call (size + 1 rows, no COUNT), ordered by id
+    public static Pageable searchPage(int page, int size) {
+        if (page < 0) {
+            throw new InvalidTrainerDataException("Page cannot be negative");
         }
-        trainerRepository.deleteById(id);
+        validatePageSize(size, MAX_SEARCH_PAGE_SIZE);
+        return PageRequest.of(page, size, TrainerSortKey.ID.toSort(false));
     }
 
-    // SEARCH AND FILTER METHODS USING JPA STREAMS
     @Transactional(readOnly = true)
-    public List<Trainer> getTrainersByStatus(ApplicationStatus status) {
-        return trainerRepository.findByApplicationStatus(status);
+    public Slice<TrainerResponseDTO> getTrainersByStatus(ApplicationStatus status, Pageable pageable, Class<?> view) {
+        return withSpecializations(trainerRepository.findByApplicationStatus(status, pageable), view);
     }
 
     @Transactional(readOnly = true)
-    public List<Trainer> getExperiencedTrainers(Integer minYears) {
-        return trainerRepository.findByYearsOfExperienceGreaterThanEqual(minYears);
+    public Slice<TrainerResponseDTO> getExperiencedTrainers(Integer minYears, Pageable pageable, Class<?> view) {
+        return withSpecializations(trainerRepository.findByYearsOfExperienceGreaterThanEqual(minYears, pageable), view);
     }
 
     @Transactional(readOnly = true)
-    public List<Trainer> getTrainersByCity(String city) {
-        return trainerRepository.findByCityIgnoreCase(city);
+    public Slice<TrainerResponseDTO> getTrainersByCity(String city, Pageable pageable, Class<?> view) {
+        return withSpecializations(trainerRepository.findByCityIgnoreCase(city, pageable), view);
     }
 
+    // Ranked by number of matching skills; match=any|all, or minMatches for "at least N of"
     @Transactional(readOnly = true)
-    public List<Trainer> getTrainersBySpecializations(List<String> specializations) {
-        return trainerRepository.findBySpecializationsIn(specializations);
+    public List<TrainerResponseDTO> getTrainersBySpecializations(List<String> specializations, String match,
+                                                                 Integer minMatches, int limit, Class<?> view) {
+        validateLimit(limit);
+        long requested = specializations.stream()
+                .filter(Objects::nonNull)
+                .map(Skill::normalize)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .count();
+        if (requested == 0) {
+            throw new InvalidTrainerDataException("At least one specialization is required");
+        }
+
+        int required;
+        if (minMatches != null) {
+            if (minMatches < 1 || minMatches > requested) {
+                throw new InvalidTrainerDataException("minMatches must be between 1 and " + requested);
+            }
+            required = minMatches;
+        } else if ("any".equalsIgnoreCase(match)) {
+            required = 1;
+        } else if ("all".equalsIgnoreCase(match)) {
+            required = (int) requested;
+        } else {
+            throw new InvalidTrainerDataException("Unsupported match mode: " + match + " (use any or all)");
+        }
+
+        List<Long> ids = trainerSkillIndex.match(specializations, required, limit).stream()
+                .map(SkillMatch::trainerId)
+                .toList();
+        return summaryReader.findInOrder(ids, view);
     }
 
+    // Ranked lookup in the in-memory trigram index; only the matching rows are read from the database
     @Transactional(readOnly = true)
-    public List<Trainer> searchTrainersByName(String name) {
-        return trainerRepository.findByNameContaining(name);
+    public List<TrainerResponseDTO> searchTrainersByName(String name, boolean fuzzy, int limit, Class<?> view) {
+        validateLimit(limit);
+        return summaryReader.findInOrder(trainerNameIndex.search(name, fuzzy, limit), view);
     }
 
     @Transactional(readOnly = true)
-    public List<Trainer> getTrainersBySalaryRange(Double minSalary, Double maxSalary) {
-        return trainerRepository.findBySalaryExpectationBetween(minSalary, maxSalary);
+    public Slice<TrainerResponseDTO> getTrainersBySalaryRange(Double minSalary, Double maxSalary, Pageable pageable,
+                                                              Class<?> view) {
+        return withSpecializations(trainerRepository.findBySalaryExpectationBetween(minSalary, maxSalary, pageable),
+                view);
     }
 
     @Transactional(readOnly = true)
-    public List<Trainer> getTrainersAvailableForTravel() {
-        return trainerRepository.findByAvailableForTravel(true);
+    public Slice<TrainerResponseDTO> getTrainersAvailableForTravel(Pageable pageable, Class<?> view) {
+        return withSpecializations(trainerRepository.findByAvailableForTravel(true, pageable), view);
     }
 
-    // ANALYTICS METHODS USING JPA STREAMS
+    // ANALYTICS METHODS - served from AnalyticsAggregator's counters
     @Transactional(readOnly = true)
     public Map<ApplicationStatus, Long> getApplicationStatusStatistics() {
-        return trainerRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        Trainer::getApplicationStatus,
-                        Collectors.counting()
-                ));
+        return analyticsAggregator.getStatusCounts();
     }
 
     @Transactional(readOnly = true)
     public Map<String, Long> getCityStatistics() {
-        return trainerRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        Trainer::getCity,
-                        Collectors.counting()
-                ));
+        return analyticsAggregator.getCityCounts();
     }
 
     @Transactional(readOnly = true)
     public Map<Integer, Long> getExperienceStatistics() {
-        return trainerRepository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        trainer -> trainer.getYearsOfExperience() / 5 * 5, // Group by 5-year ranges
-                        Collectors.counting()
-                ));
+        return analyticsAggregator.getExperienceBucketCounts();
     }
 
     @Transactional(readOnly = true)
-    public List<Trainer> getTopExperiencedTrainers(int limit) {
-        return trainerRepository.findAll().stream()
-                .sorted((t1, t2) -> Integer.compare(t2.getYearsOfExperience(), t1.getYearsOfExperience()))
-                .limit(limit)
-                .collect(Collectors.toList());
+    public List<TrainerResponseDTO> getTopExperiencedTrainers(int offset, int limit, Class<?> view) {
+        if (offset < 0) {
+            throw new InvalidTrainerDataException("Offset cannot be negative");
+        }
+        validateLimit(limit);
+        return summaryReader.withSpecializations(trainerRepository.findTopByExperience(offset, limit), view);
     }
 
     @Transactional(readOnly = true)
-    public List<Trainer> getRecentApplications(int days) {
-        LocalDate cutoffDate = LocalDate.now().minusDays(days);
-        return trainerRepository.findRecentApplications(cutoffDate);
+    // Newest first, one bounded page at a time
+    public Slice<TrainerResponseDTO> getRecentApplications(int days, int page, int size, Class<?> view) {
+        if (days < 0) {
+            throw new InvalidTrainerDataException("Days cannot be negative");
+        }
+        if (page < 0) {
+            throw new InvalidTrainerDataException("Page cannot be negative");
+        }
+        validatePageSize(size, MAX_SEARCH_PAGE_SIZE);
+        LocalDateTime since = LocalDate.now().minusDays(days).atStartOfDay();
+        return withSpecializations(trainerRepository.findRecentApplications(since, PageRequest.of(page, size)), view);
     }
 
     @Transactional(readOnly = true)
     public Double getAverageSalaryExpectation() {
-        return trainerRepository.findAll().stream()
-                .filter(trainer -> trainer.getSalaryExpectation() != null)
-                .mapToDouble(Trainer::getSalaryExpectation)
-                .average()
-                .orElse(0.0);
+        return analyticsAggregator.getAverageSalary();
     }
 
     @Transactional(readOnly = true)
@@ -209,8 +416,35 @@ public class TrainerService {
         return trainerRepository.findAllDistinctStates();
     }
 
+    private Slice<TrainerResponseDTO> withSpecializations(Slice<TrainerResponseDTO> slice, Class<?> view) {
+        summaryReader.withSpecializations(slice.getContent(), view);
+        return slice;
+    }
+
     // VALIDATION
-    private void validateTrainerData(Trainer trainer) {
+    private static void validatePageSize(int size, int max) {
+        if (size < 1 || size > max) {
+            throw new InvalidTrainerDataException("Page size must be between 1 and " + max);
+        }
+    }
+
+    // The client's version may come from a cached copy that another node's write made stale: evict it so the
+    // refetch after the 412 sees the current row
+    private void checkVersion(Long id, Long currentVersion, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            trainerCache.invalidate(id);
+            throw new TrainerVersionMismatchException(id, expectedVersion, currentVersion);
+        }
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_RANKING_LIMIT) {
+            throw new InvalidTrainerDataException("Limit must be between 1 and " + MAX_RANKING_LIMIT);
+        }
+    }
+
+    // Shared with the bulk import path
+    static void validateTrainerData(Trainer trainer) {
         if (trainer == null) {
             throw new InvalidTrainerDataException("Trainer data cannot be null");
         }
@@ -0,0 +1,295 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.SkillLink;
+import com.cts.trainers_application.dto.SkillMatch;
+import com.cts.trainers_application.entity.Skill;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.repository.SkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index: skill id -> sorted trainer ids, answering any/all/at-least-N skill queries.
+// Like TrainerNameIndex, it is resynced on a schedule with writes made on other nodes unless single-node.
+@Component
+public class TrainerSkillIndex implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainerSkillIndex.class);
+
+    private static final int REBUILD_CHUNK_SIZE = 10_000;
+
+    private static final Comparator<SkillMatch> BEST_FIRST =
+            Comparator.comparingInt(SkillMatch::matchedSkills).reversed().thenComparingLong(SkillMatch::trainerId);
+
+    private final SkillRepository skillRepository;
+    private final TrainerWriteGeneration writeGeneration;
+    private final boolean singleNode;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Index index = new Index();
+    // Write generation read before the last rebuild; null when single-node
+    private volatile String indexedGeneration;
+
+    @Autowired
+    public TrainerSkillIndex(SkillRepository skillRepository, TrainerWriteGeneration writeGeneration,
+                             @Value("${trainers.single-node:false}") boolean singleNode) {
+        this.skillRepository = skillRepository;
+        this.writeGeneration = writeGeneration;
+        this.singleNode = singleNode;
+    }
+
+    // Runs once all beans are ready, before the web server starts accepting requests
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        String generation = singleNode ? null : writeGeneration.current();
+        Index fresh = new Index();
+        skillRepository.findAll().forEach(fresh::addSkill);
+
+        long afterTrainerId = 0L;
+        int afterSkillId = 0;
+        List<SkillLink> chunk;
+        while (!(chunk = skillRepository.findLinksAfter(afterTrainerId, afterSkillId, REBUILD_CHUNK_SIZE)).isEmpty()) {
+            for (SkillLink link : chunk) {
+                fresh.link(link.skillId(), TrainerFacetIndex.bitOf(link.trainerId()));
+            }
+            SkillLink last = chunk.get(chunk.size() - 1);
+            afterTrainerId = last.trainerId();
+            afterSkillId = last.skillId();
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        indexedGeneration = generation;
+        log.info("Rebuilt trainer skill index");
+    }
+
+    @Scheduled(fixedDelayString = "${trainers.index.resync-interval:30s}",
+               initialDelayString = "${trainers.index.resync-interval:30s}")
+    public void resync() {
+        if (!singleNode && !writeGeneration.current().equals(indexedGeneration)) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTrainerChanged(TrainerChangeEvent event) {
+        if (event.type() == TrainerChangeEvent.Type.STATUS_CHANGED) {
+            return;
+        }
+        // Skills created by this commit are not in the index yet; fetch them outside the lock
+        List<Skill> newSkills = findUnknownSkills(event.after());
+
+        lock.writeLock().lock();
+        try {
+            newSkills.forEach(index::addSkill);
+            if (event.before() != null) {
+                int bit = TrainerFacetIndex.bitOf(event.before().id());
+                if (event.before().specializations() == null) {
+                    index.unlinkEverywhere(bit); // snapshot read without them
+                } else {
+                    index.skillIdsOf(event.before().specializations()).forEach(skillId -> index.unlink(skillId, bit));
+                }
+            }
+            if (event.after() != null) {
+                int bit = TrainerFacetIndex.bitOf(event.after().id());
+                index.skillIdsOf(event.after().specializations()).forEach(skillId -> index.link(skillId, bit));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Trainers having at least minMatches of the given skills, most matches first, then by id
+    public List<SkillMatch> match(Collection<String> specializations, int minMatches, int limit) {
+        lock.readLock().lock();
+        try {
+            return index.match(specializations, minMatches, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Ids of trainers having any of the given skills, for intersecting with other filters
+    public BitSet matchAny(Collection<String> specializations) {
+        lock.readLock().lock();
+        try {
+            BitSet result = new BitSet();
+            for (int skillId : index.skillIdsOf(specializations)) {
+                SortedIntSet posting = index.postings.get(skillId);
+                if (posting != null) {
+                    for (int i = 0; i < posting.size; i++) {
+                        result.set(posting.values[i]);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Skill> findUnknownSkills(TrainerSnapshot trainer) {
+        if (trainer == null || trainer.specializations() == null) {
+            return List.of();
+        }
+        List<String> unknown;
+        lock.readLock().lock();
+        try {
+            unknown = trainer.specializations().stream()
+                    .map(Skill::normalize)
+                    .filter(name -> !index.skillIdsByName.containsKey(name))
+                    .distinct()
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        return unknown.isEmpty() ? List.of() : skillRepository.findByNameIn(unknown);
+    }
+
+    private static final class Index {
+        private final Map<String, Integer> skillIdsByName = new HashMap<>();
+        private final Map<Integer, SortedIntSet> postings = new HashMap<>();
+
+        void addSkill(Skill skill) {
+            skillIdsByName.put(Skill.normalize(skill.getName()), skill.getId());
+        }
+
+        void link(int skillId, int trainerBit) {
+            postings.computeIfAbsent(skillId, key -> new SortedIntSet()).add(trainerBit);
+        }
+
+        void unlink(int skillId, int trainerBit) {
+            SortedIntSet posting = postings.get(skillId);
+            if (posting != null) {
+                posting.remove(trainerBit);
+            }
+        }
+
+        void unlinkEverywhere(int trainerBit) {
+            postings.values().forEach(posting -> posting.remove(trainerBit));
+        }
+
+        // Distinct known skill ids; unknown names can match no trainer and are dropped
+        Set<Integer> skillIdsOf(Collection<String> specializations) {
+            Set<Integer> skillIds = new LinkedHashSet<>();
+            if (specializations == null) {
+                return skillIds;
+            }
+            for (String specialization : specializations) {
+                if (specialization != null) {
+                    Integer skillId = skillIdsByName.get(Skill.normalize(specialization));
+                    if (skillId != null) {
+                        skillIds.add(skillId);
+                    }
+                }
+            }
+            return skillIds;
+        }
+
+        List<SkillMatch> match(Collection<String> specializations, int minMatches, int limit) {
+            List<SortedIntSet> lists = new ArrayList<>();
+            for (int skillId : skillIdsOf(specializations)) {
+                lists.add(postings.getOrDefault(skillId, SortedIntSet.EMPTY));
+            }
+            if (lists.size() < minMatches) {
+                return List.of(); // a requested skill nobody has makes "all of" unsatisfiable
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            // A trainer with minMatches of n skills must appear in one of the n - minMatches + 1 rarest lists,
+            // so only those are scanned for candidates; every other list is probed by binary search
+            int candidateLists = lists.size() - minMatches + 1;
+            PriorityQueue<SkillMatch> best = new PriorityQueue<>(BEST_FIRST.reversed());
+            BitSet seen = new BitSet();
+            for (int c = 0; c < candidateLists; c++) {
+                SortedIntSet candidates = lists.get(c);
+                for (int i = 0; i < candidates.size; i++) {
+                    int trainerBit = candidates.values[i];
+                    if (seen.get(trainerBit)) {
+                        continue;
+                    }
+                    seen.set(trainerBit);
+                    int matched = 1;
+                    for (int other = c + 1; other < lists.size(); other++) {
+                        if (lists.get(other).contains(trainerBit)) {
+                            matched++;
+                        }
+                    }
+                    if (matched >= minMatches) {
+                        best.offer(new SkillMatch((long) trainerBit, matched));
+                        if (best.size() > limit) {
+                            best.poll();
+                        }
+                    }
+                }
+            }
+
+            List<SkillMatch> ranked = new ArrayList<>(best);
+            ranked.sort(BEST_FIRST);
+            return ranked;
+        }
+    }
+
+    private static final class SortedIntSet {
+        private static final SortedIntSet EMPTY = new SortedIntSet();
+
+        private int[] values = new int[4];
+        private int size;
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        // Ids mostly arrive in ascending order, so the common case is an append
+        void add(int value) {
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = value;
+            size++;
+        }
+
+        void remove(int value) {
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, size - position - 1);
+                size--;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.BulkStatusTransitionReport;
+import com.cts.trainers_application.dto.BulkStatusTransitionRequest;
+import com.cts.trainers_application.dto.StatusTransitionResult;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import com.cts.trainers_application.repository.TrainerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Moves many trainers to one status with a single UPDATE per chunk; each chunk commits on its own,
+// so a large batch holds row locks only for one chunk at a time
+@Service
+public class TrainerStatusTransitionService {
+
+    private final TrainerRepository trainerRepository;
+    private final TrainerSearchService trainerSearchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public TrainerStatusTransitionService(TrainerRepository trainerRepository,
+                                          TrainerSearchService trainerSearchService,
+                                          ApplicationEventPublisher eventPublisher,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${trainers.status.bulk.batch-size:1000}") int batchSize) {
+        this.trainerRepository = trainerRepository;
+        this.trainerSearchService = trainerSearchService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public BulkStatusTransitionReport transition(BulkStatusTransitionRequest request) {
+        ApplicationStatus target = request.getStatus();
+        Set<ApplicationStatus> sources = ApplicationStatus.sourcesOf(target);
+        List<Long> ids = resolveIds(request);
+
+        List<StatusTransitionResult> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            results.addAll(transactionTemplate.execute(status -> transitionChunk(chunk, target, sources)));
+        }
+        return BulkStatusTransitionReport.of(target, results);
+    }
+
+    private List<StatusTransitionResult> transitionChunk(List<Long> ids, ApplicationStatus target,
+                                                         Set<ApplicationStatus> sources) {
+        // The rows stay locked until commit, so the statuses read here are the ones the UPDATE sees
+        Map<Long, TrainerSnapshot> current = trainerRepository.lockSnapshotsByIdIn(ids).stream()
+                .collect(Collectors.toMap(TrainerSnapshot::id, Function.identity()));
+        List<Long> movable = current.values().stream()
+                .filter(snapshot -> sources.contains(snapshot.applicationStatus()))
+                .map(TrainerSnapshot::id)
+                .toList();
+        if (!movable.isEmpty()) {
+            int updated = trainerRepository.transitionStatus(movable, sources, target, LocalDateTime.now());
+            if (updated != movable.size()) {
+                throw new IllegalStateException("Expected to transition " + movable.size() + " trainers, updated " + updated);
+            }
+        }
+
+        List<StatusTransitionResult> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TrainerSnapshot before = current.get(id);
+            if (before == null) {
+                results.add(StatusTransitionResult.notFound(id));
+            } else if (before.applicationStatus() == target) {
+                results.add(StatusTransitionResult.skipped(id, StatusTransitionResult.Outcome.UNCHANGED,
+                        target, before.version()));
+            } else if (!sources.contains(before.applicationStatus())) {
+                results.add(StatusTransitionResult.skipped(id, StatusTransitionResult.Outcome.NOT_ALLOWED,
+                        before.applicationStatus(), before.version()));
+            } else {
+                TrainerSnapshot after = before.withStatus(target, before.version() + 1);
+                eventPublisher.publishEvent(TrainerChangeEvent.statusChanged(before, after));
+                results.add(StatusTransitionResult.updated(id, before.applicationStatus(), target, after.version()));
+            }
+        }
+        return results;
+    }
+
+    // Explicit ids keep their request order (duplicates dropped); filter matches come in id order
+    private List<Long> resolveIds(BulkStatusTransitionRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (hasIds == (request.getFilter() != null)) {
+            throw new InvalidTrainerDataException("Provide either ids or a filter");
+        }
+        if (hasIds) {
+            return new ArrayList<>(request.getIds().stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+        }
+        BitSet matches = trainerSearchService.matchIds(request.getFilter());
+        return matches.stream().mapToObj(Long::valueOf).toList();
+    }
+}
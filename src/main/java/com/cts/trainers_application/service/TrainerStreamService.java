@@ -0,0 +1,53 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.entity.Trainer;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.util.concurrent.Callable;
+
+// Demand-driven streams over the keyset chunk reader: a chunk is read only when the subscriber has drained the last one
+@Service
+public class TrainerStreamService {
+
+    private final TrainerChunkReader chunkReader;
+    private final int chunkSize;
+
+    @Autowired
+    public TrainerStreamService(TrainerChunkReader chunkReader,
+                                @Value("${trainers.reactive.chunk-size:200}") int chunkSize) {
+        this.chunkReader = chunkReader;
+        this.chunkSize = chunkSize;
+    }
+
+    public Flux<Trainer> stream(Specification<Trainer> filter) {
+        return readChunk(filter, null)
+                .expand(chunk -> chunk.rows().size() < chunkSize
+                        ? Mono.empty()
+                        : readChunk(filter, chunk.lastId()))
+                // Prefetch of one chunk: at most two chunks per subscriber are ever on the heap
+                .flatMapIterable(TrainerChunkReader.Chunk::rows, 1);
+    }
+
+    // Runs a blocking call off the request thread
+    public <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // JDBC blocks, so every chunk is read on the bounded elastic pool rather than a request or event-loop thread
+    private Mono<TrainerChunkReader.Chunk<Trainer>> readChunk(Specification<Trainer> filter, Long afterId) {
+        return blocking(() -> chunkReader.readChunk(filter, afterId, chunkSize, TrainerStreamService::initialized));
+    }
+
+    // Collections are batch-loaded while the chunk is attached so the detached rows serialize in full
+    private static Trainer initialized(Trainer trainer) {
+        Hibernate.initialize(trainer.getSpecializations());
+        Hibernate.initialize(trainer.getCertifications());
+        return trainer;
+    }
+}
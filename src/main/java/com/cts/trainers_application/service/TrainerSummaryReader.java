@@ -0,0 +1,84 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.TrainerResponseDTO;
+import com.cts.trainers_application.dto.TrainerSpecialization;
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.entity.TrainerViews;
+import com.cts.trainers_application.repository.TrainerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Reads TrainerResponseDTO rows for list and search views: one projection query for the page plus, unless the
+// response is a summary, one for the specializations of the whole page; never an entity
+@Component
+public class TrainerSummaryReader {
+
+    private final TrainerRepository trainerRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public TrainerSummaryReader(TrainerRepository trainerRepository) {
+        this.trainerRepository = trainerRepository;
+    }
+
+    // Specification counterpart of TrainerRepository.SELECT_SUMMARY, for keyset pages
+    public List<TrainerResponseDTO> find(Specification<Trainer> filter, Sort sort, int limit, Class<?> view) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TrainerResponseDTO> query = cb.createQuery(TrainerResponseDTO.class);
+        Root<Trainer> root = query.from(Trainer.class);
+        query.select(cb.construct(TrainerResponseDTO.class,
+                        root.get("id"), root.get("firstName"), root.get("lastName"), root.get("email"),
+                        root.get("phoneNumber"), root.get("city"), root.get("state"), root.get("country"),
+                        root.get("highestQualification"), root.get("yearsOfExperience"),
+                        root.get("applicationStatus"), root.get("salaryExpectation"),
+                        root.get("availableForTravel"), root.get("createdAt"), root.get("updatedAt")))
+                .where(filter.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+        return withSpecializations(entityManager.createQuery(query).setMaxResults(limit).getResultList(), view);
+    }
+
+    // Rows for ids ranked elsewhere (search indexes), in the order given; missing ids are skipped
+    public List<TrainerResponseDTO> findInOrder(List<Long> ids, Class<?> view) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TrainerResponseDTO> summariesById = trainerRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TrainerResponseDTO::getId, Function.identity()));
+        return withSpecializations(ids.stream()
+                .map(summariesById::get)
+                .filter(Objects::nonNull)
+                .toList(), view);
+    }
+
+    // Loads the specializations only for a view that serializes them (see TrainerViews)
+    public List<TrainerResponseDTO> withSpecializations(List<TrainerResponseDTO> summaries, Class<?> view) {
+        return TrainerViews.includesCollections(view) ? withSpecializations(summaries) : summaries;
+    }
+
+    public List<TrainerResponseDTO> withSpecializations(List<TrainerResponseDTO> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        Map<Long, TrainerResponseDTO> summariesById = summaries.stream()
+                .collect(Collectors.toMap(TrainerResponseDTO::getId, Function.identity()));
+        for (TrainerSpecialization row : trainerRepository.findSpecializationsByTrainerIdIn(summariesById.keySet())) {
+            summariesById.get(row.trainerId()).getSpecializations().add(row.specialization());
+        }
+        return summaries;
+    }
+}
@@ -0,0 +1,76 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.repository.WriteGenerationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Validator for views derived from the whole table: it changes whenever a trainer write commits anywhere.
+// Every transaction that changes trainers bumps a shared counter (WriteGenerationSlot) just before it commits, so
+// the token works with any number of nodes. A single node (trainers.single-node) serves its analytics from local
+// counters that are updated after commit, so it uses a process-local count that moves only once they are.
+@Component
+public class TrainerWriteGeneration {
+
+    private static final int SLOTS = 16;
+
+    private final WriteGenerationRepository writeGenerationRepository;
+    private final boolean singleNode;
+    // The local token starts with a random instance id, so a restarted instance never reissues a value
+    private final String instance = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong localGeneration = new AtomicLong();
+
+    @Autowired
+    public TrainerWriteGeneration(WriteGenerationRepository writeGenerationRepository,
+                                  @Value("${trainers.single-node:false}") boolean singleNode) {
+        this.writeGenerationRepository = writeGenerationRepository;
+        this.singleNode = singleNode;
+    }
+
+    // Read it before computing a view: the view can then only be newer than its token, never older
+    @Transactional(readOnly = true)
+    public String current() {
+        return singleNode ? instance + "-" + localGeneration.get() : Long.toString(writeGenerationRepository.sum());
+    }
+
+    // Joins the writing transaction; however many trainers it changes, the shared counter is bumped once
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTrainerWritten(TrainerChangeEvent event) {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // Flushing first makes the slot the last lock the transaction takes, so it cannot join a deadlock
+                writeGenerationRepository.flush();
+                writeGenerationRepository.increment(ThreadLocalRandom.current().nextInt(SLOTS));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TrainerWriteGeneration.this);
+            }
+        });
+    }
+
+    // AFTER_COMPLETION runs once every AFTER_COMMIT listener (analytics counters, caches) has applied the write,
+    // so no reader can pair the new local token with the old view. A rollback bumps it too, which only costs a refetch.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    public void onTrainerChanged(TrainerChangeEvent event) {
+        localGeneration.incrementAndGet();
+    }
+}
@@ -0,0 +1,23 @@
+-- Seed the pooled id allocator above any ids handed out by the former AUTO_INCREMENT column.
+-- IGNORE keeps this a no-op once the row exists.
+INSERT IGNORE INTO id_generators (sequence_name, next_val)
+SELECT 'trainers', COALESCE(MAX(id), 0) + 1 FROM trainers;
+
+-- skills.name and display_name were VARCHAR(100), shorter than a specialization; ddl-auto never widens a column.
+ALTER TABLE skills MODIFY name VARCHAR(255) NOT NULL, MODIFY display_name VARCHAR(255) NOT NULL;
+
+-- Backfill the skill dictionary and trainer_skills links from the free-text specializations.
+-- Both statements are idempotent; new writes keep the tables in sync through SkillDictionary.
+INSERT IGNORE INTO skills (name, display_name)
+SELECT LOWER(REGEXP_REPLACE(TRIM(specialization), '[[:space:]]+', ' ')), MIN(TRIM(specialization))
+FROM trainer_specializations
+WHERE TRIM(specialization) <> ''
+GROUP BY LOWER(REGEXP_REPLACE(TRIM(specialization), '[[:space:]]+', ' '));
+
+INSERT IGNORE INTO trainer_skills (trainer_id, skill_id)
+SELECT DISTINCT ts.trainer_id, s.id
+FROM trainer_specializations ts
+JOIN skills s ON s.name = LOWER(REGEXP_REPLACE(TRIM(ts.specialization), '[[:space:]]+', ' '));
+
+-- Unclaimed outbox rows used to have a NULL lease; they now carry the OutboxEvent.UNCLAIMED sentinel.
+UPDATE trainer_outbox SET claimed_until = '1970-01-01 00:00:00' WHERE claimed_until IS NULL;
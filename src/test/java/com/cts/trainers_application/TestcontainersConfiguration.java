@@ -0,0 +1,20 @@
+package com.cts.trainers_application;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+// The queries rely on MySQL (native SKIP LOCKED, collations, data.sql), so tests run against a real server
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mysqlContainer() {
+        // Same driver setting as the application URL, so batched inserts reach the server as multi-row INSERTs
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withUrlParam("rewriteBatchedStatements", "true");
+    }
+}
@@ -0,0 +1,34 @@
+package com.cts.trainers_application;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Trainer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Trainers that pass bean validation and TrainerService.validateTrainerData; tests override what they care about
+public final class TrainerFixtures {
+
+    private TrainerFixtures() {}
+
+    public static Trainer trainer(String email) {
+        Trainer trainer = new Trainer("Asha", "Rao", email, "9876543210", LocalDate.of(1990, 1, 15),
+                "12 Main Street", "Chennai", "Tamil Nadu", "India", "600001", "M.Tech", 5,
+                new ArrayList<>(List.of("Java", "Spring Boot")));
+        trainer.setCertifications(new ArrayList<>(List.of("OCP Java 17")));
+        trainer.setPreviousCompany("Acme Learning");
+        trainer.setSalaryExpectation(50000.0);
+        trainer.setAvailableForTravel(true);
+        return trainer;
+    }
+
+    public static Trainer trainer(String email, String city, int yearsOfExperience, ApplicationStatus status,
+                                  Double salaryExpectation) {
+        Trainer trainer = trainer(email);
+        trainer.setCity(city);
+        trainer.setYearsOfExperience(yearsOfExperience);
+        trainer.setApplicationStatus(status);
+        trainer.setSalaryExpectation(salaryExpectation);
+        return trainer;
+    }
+}
@@ -2,12 +2,16 @@ package com.cts.trainers_application;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
 
-//@SpringBootTest
-//class TrainersApplicationTests {
-//
-//	@Test
-//	void contextLoads() {
-//	}
-//
-//}
+@SpringBootTest(properties = "trainers.outbox.relay.enabled=false")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TrainersApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.cts.trainers_application.config;
+
+import com.cts.trainers_application.exception.ServiceBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Requests beyond the permits wait in front of JDBC and are turned away with a 503 only after the acquire timeout
+class DatabaseConcurrencyGateTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void queuesARequestUntilAPermitIsReleased() throws Exception {
+        DatabaseConcurrencyGate gate = new DatabaseConcurrencyGate(1, Duration.ofSeconds(5));
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        assertThat(gate.preHandle(first, response, null)).isTrue();
+
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return gate.preHandle(new MockHttpServletRequest(), response, null);
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        while (gate.getQueueLength() == 0) {
+            Thread.onSpinWait();
+        }
+        assertThat(second).isNotDone();
+
+        gate.afterCompletion(first, response, null, null);
+
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(gate.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    void rejectsARequestThatWaitedPastTheTimeout() throws Exception {
+        DatabaseConcurrencyGate gate = new DatabaseConcurrencyGate(1, Duration.ofMillis(50));
+        gate.preHandle(new MockHttpServletRequest(), response, null);
+
+        assertThatThrownBy(() -> gate.preHandle(new MockHttpServletRequest(), response, null))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThat(gate.getQueueLength()).isZero();
+    }
+
+    @Test
+    void letsAnAsyncRedispatchThroughWithoutASecondPermit() throws Exception {
+        DatabaseConcurrencyGate gate = new DatabaseConcurrencyGate(1, Duration.ofMillis(50));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        gate.preHandle(request, response, null);
+
+        assertThat(gate.preHandle(request, response, null)).isTrue();
+
+        gate.afterCompletion(request, response, null, null);
+        assertThat(gate.getAvailablePermits()).isEqualTo(1);
+    }
+}
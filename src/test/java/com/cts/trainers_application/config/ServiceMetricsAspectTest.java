@@ -0,0 +1,48 @@
+package com.cts.trainers_application.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServiceMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void timesEachMethodAndOutcomeWithOneTimer() {
+        SampleService service = proxy(new SampleService());
+
+        service.work(false);
+        service.work(false);
+        assertThatThrownBy(() -> service.work(true)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("trainers.service.invocations")
+                .tags("class", "SampleService", "method", "work", "exception", "none").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("trainers.service.invocations")
+                .tags("exception", "IllegalStateException").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.getMeters()).hasSize(2);
+    }
+
+    private SampleService proxy(SampleService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+
+    @Service
+    static class SampleService {
+
+        public void work(boolean fail) {
+            if (fail) {
+                throw new IllegalStateException("failed");
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.cts.trainers_application.controller;
+
+import com.cts.trainers_application.dto.TrainerResponseDTO;
+import com.cts.trainers_application.dto.TrainerStatusChange;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.entity.TrainerViews;
+import com.cts.trainers_application.exception.TrainerVersionMismatchException;
+import com.cts.trainers_application.service.IdempotencyStore;
+import com.cts.trainers_application.service.TrainerBulkImportService;
+import com.cts.trainers_application.service.TrainerEventBroadcaster;
+import com.cts.trainers_application.service.TrainerExportService;
+import com.cts.trainers_application.service.TrainerSearchService;
+import com.cts.trainers_application.service.TrainerService;
+import com.cts.trainers_application.service.TrainerStatusTransitionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.cts.trainers_application.TrainerFixtures.trainer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TrainerController.class)
+class TrainerControllerTest {
+
+    private static final String CITY_STATISTICS = "/api/trainers/analytics/city-statistics";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private TrainerService trainerService;
+
+    @MockitoBean
+    private TrainerExportService trainerExportService;
+
+    @MockitoBean
+    private TrainerBulkImportService trainerBulkImportService;
+
+    @MockitoBean
+    private TrainerSearchService trainerSearchService;
+
+    @MockitoBean
+    private TrainerEventBroadcaster trainerEventBroadcaster;
+
+    @MockitoBean
+    private TrainerStatusTransitionService trainerStatusTransitionService;
+
+    @MockitoBean
+    private IdempotencyStore idempotencyStore;
+
+    // FIELDS
+
+    @Test
+    void listLeavesOutSpecializationsForFieldsSummary() throws Exception {
+        when(trainerService.getAllTrainers(any(Pageable.class), any()))
+                .thenReturn(new PageImpl<>(List.of(summary(1L)), PageRequest.of(0, 10), 1));
+
+        mockMvc.perform(get("/api/trainers").param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].email").value("asha@example.com"))
+                .andExpect(jsonPath("$.data[0].specializations").doesNotExist());
+
+        mockMvc.perform(get("/api/trainers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].specializations[0]").value("Java"));
+
+        // The summary view is passed down so the service skips the specializations query
+        verify(trainerService).getAllTrainers(any(Pageable.class), eq(TrainerViews.Summary.class));
+        verify(trainerService).getAllTrainers(any(Pageable.class), eq(TrainerViews.Full.class));
+    }
+
+    @Test
+    void trainerLeavesOutCollectionsForFieldsSummary() throws Exception {
+        when(trainerService.getTrainerById(7L)).thenReturn(stored(7L, 3L));
+
+        mockMvc.perform(get("/api/trainers/7").param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value("asha@example.com"))
+                .andExpect(jsonPath("$.data.specializations").doesNotExist())
+                .andExpect(jsonPath("$.data.certifications").doesNotExist());
+    }
+
+    // SORTING
+
+    @Test
+    void sortsOnlyByWhitelistedKeys() throws Exception {
+        mockMvc.perform(get("/api/trainers").param("sortBy", "additionalNotes"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/trainers").param("sortBy", "phoneNumber").param("mode", "keyset"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(trainerService);
+    }
+
+    @Test
+    void sortsByTheKeyThenById() throws Exception {
+        when(trainerService.getAllTrainers(any(Pageable.class), any()))
+                .thenReturn(new PageImpl<>(List.of(summary(1L)), PageRequest.of(0, 10), 1));
+
+        mockMvc.perform(get("/api/trainers").param("sortBy", "city").param("sortDir", "desc"))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(trainerService).getAllTrainers(pageable.capture(), eq(TrainerViews.Full.class));
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by(Sort.Order.desc("city"), Sort.Order.desc("id")));
+    }
+
+    // CONDITIONAL REQUESTS
+
+    @Test
+    void tagsATrainerWithItsIdAndVersion() throws Exception {
+        when(trainerService.getTrainerById(7L)).thenReturn(stored(7L, 3L));
+
+        mockMvc.perform(get("/api/trainers/7"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7-3\""));
+        mockMvc.perform(get("/api/trainers/7").header(HttpHeaders.IF_NONE_MATCH, "\"7-3\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/trainers/7").header(HttpHeaders.IF_NONE_MATCH, "\"7-2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void passesTheIfMatchVersionToTheUpdate() throws Exception {
+        when(trainerService.updateTrainer(eq(7L), any(Trainer.class), eq(3L))).thenReturn(stored(7L, 4L));
+
+        mockMvc.perform(put("/api/trainers/7")
+                        .header(HttpHeaders.IF_MATCH, "\"7-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(trainer("asha@example.com"))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7-4\""));
+    }
+
+    @Test
+    void rejectsAnIfMatchTagThatIsNotThisTrainersStrongTag() throws Exception {
+        mockMvc.perform(put("/api/trainers/7")
+                        .header(HttpHeaders.IF_MATCH, "\"8-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(trainer("asha@example.com"))))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/trainers/7").header(HttpHeaders.IF_MATCH, "W/\"7-3\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/api/trainers/7").header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(trainerService);
+    }
+
+    @Test
+    void reportsAStaleVersionAsPreconditionFailed() throws Exception {
+        when(trainerService.updateApplicationStatus(7L, ApplicationStatus.APPROVED, 2L))
+                .thenThrow(new TrainerVersionMismatchException(7L, 2L, 3L));
+
+        mockMvc.perform(patch("/api/trainers/7/status")
+                        .param("status", "APPROVED")
+                        .header(HttpHeaders.IF_MATCH, "\"7-2\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void statusUpdateWithoutIfMatchSkipsThePrecondition() throws Exception {
+        when(trainerService.updateApplicationStatus(7L, ApplicationStatus.APPROVED, null))
+                .thenReturn(new TrainerStatusChange(7L, ApplicationStatus.UNDER_REVIEW, ApplicationStatus.APPROVED, 5L));
+
+        mockMvc.perform(patch("/api/trainers/7/status").param("status", "APPROVED"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7-5\""));
+    }
+
+    @Test
+    void aggregatesAreRecomputedOnceTheGenerationMoves() throws Exception {
+        when(trainerService.getWriteGeneration()).thenReturn("42");
+        when(trainerService.getCityStatistics()).thenReturn(Map.of("Pune", 2L));
+
+        mockMvc.perform(get(CITY_STATISTICS).header(HttpHeaders.IF_NONE_MATCH, "\"w41\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"w42\""))
+                .andExpect(jsonPath("$.data.Pune").value(2));
+    }
+
+    @Test
+    void aggregatesAnswerTheCurrentGenerationWith304BeforeComputingTheView() throws Exception {
+        when(trainerService.getWriteGeneration()).thenReturn("k3x9-4");
+        when(trainerService.getCityStatistics()).thenReturn(Map.of("Pune", 2L));
+
+        mockMvc.perform(get(CITY_STATISTICS))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"wk3x9-4\""));
+        mockMvc.perform(get(CITY_STATISTICS).header(HttpHeaders.IF_NONE_MATCH, "\"wk3x9-4\""))
+                .andExpect(status().isNotModified());
+
+        verify(trainerService, times(1)).getCityStatistics();
+    }
+
+    private static TrainerResponseDTO summary(Long id) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 10, 9, 30);
+        TrainerResponseDTO summary = new TrainerResponseDTO(id, "Asha", "Rao", "asha@example.com", "9876543210",
+                "Chennai", "Tamil Nadu", "India", "M.Tech", 5, ApplicationStatus.PENDING, 50000.0, true,
+                createdAt, createdAt);
+        summary.getSpecializations().add("Java");
+        return summary;
+    }
+
+    private static Trainer stored(Long id, Long version) {
+        Trainer trainer = trainer("asha@example.com");
+        trainer.setId(id);
+        trainer.setVersion(version);
+        trainer.setUpdatedAt(LocalDateTime.of(2025, 1, 10, 9, 30));
+        return trainer;
+    }
+}
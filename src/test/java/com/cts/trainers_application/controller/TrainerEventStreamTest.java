@@ -0,0 +1,143 @@
+package com.cts.trainers_application.controller;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.service.IdempotencyStore;
+import com.cts.trainers_application.service.TrainerBulkImportService;
+import com.cts.trainers_application.service.TrainerEventBroadcaster;
+import com.cts.trainers_application.service.TrainerExportService;
+import com.cts.trainers_application.service.TrainerSearchService;
+import com.cts.trainers_application.service.TrainerService;
+import com.cts.trainers_application.service.TrainerStatusTransitionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// The real broadcaster behind the controller; events are handed to it as the AFTER_COMMIT listener would
+@WebMvcTest(controllers = TrainerController.class, properties = "trainers.events.history-size=3")
+@Import(TrainerEventBroadcaster.class)
+class TrainerEventStreamTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("(?m)^id:(.+)$");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TrainerEventBroadcaster trainerEventBroadcaster;
+
+    @MockitoBean
+    private TrainerService trainerService;
+
+    @MockitoBean
+    private TrainerExportService trainerExportService;
+
+    @MockitoBean
+    private TrainerBulkImportService trainerBulkImportService;
+
+    @MockitoBean
+    private TrainerSearchService trainerSearchService;
+
+    @MockitoBean
+    private TrainerStatusTransitionService trainerStatusTransitionService;
+
+    @MockitoBean
+    private IdempotencyStore idempotencyStore;
+
+    @Test
+    void resumesRightAfterAKnownEventId() throws Exception {
+        List<String> ids = publish(3);
+
+        String resumed = await(subscribe(ids.get(0)), ids.get(2));
+
+        assertThat(eventIds(resumed)).containsExactly(ids.get(1), ids.get(2));
+    }
+
+    @Test
+    void resetsWhenTheEventsAfterTheIdAreNoLongerRetained() throws Exception {
+        List<String> ids = publish(5);
+
+        assertThat(await(subscribe(ids.get(0)), "event:reset")).doesNotContain("id:");
+    }
+
+    @Test
+    void resetsForAnIdIssuedByAnotherProcess() throws Exception {
+        publish(1);
+
+        // A restarted instance, another node behind the load balancer, or the old numeric ids
+        assertThat(await(subscribe("k3x9a-1"), "event:reset")).doesNotContain("id:");
+        assertThat(await(subscribe("1760000000000001"), "event:reset")).doesNotContain("id:");
+    }
+
+    @Test
+    void resetsForAnIdAboveTheLatestOne() throws Exception {
+        String latest = publish(1).get(0);
+        String beyond = latest.substring(0, latest.lastIndexOf('-') + 1) + "999999";
+
+        assertThat(await(subscribe(beyond), "event:reset")).doesNotContain("id:");
+    }
+
+    // Publishes count events and returns their ids, as read by a live subscriber
+    private List<String> publish(int count) throws Exception {
+        MvcResult live = subscribe(null);
+        for (long id = 1; id <= count; id++) {
+            trainerEventBroadcaster.onTrainerChanged(TrainerChangeEvent.created(snapshot(id)));
+        }
+        List<String> ids = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (ids.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            ids = eventIds(live.getResponse().getContentAsString());
+        }
+        assertThat(ids).hasSize(count);
+        return ids;
+    }
+
+    private MvcResult subscribe(String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder get = get("/api/trainers/events");
+        if (lastEventId != null) {
+            get.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(get).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    // Events are sent from the subscriber's own thread, so the body fills in after perform() returns
+    private static String await(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+
+    private static List<String> eventIds(String content) {
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = EVENT_ID.matcher(content);
+        while (matcher.find()) {
+            ids.add(matcher.group(1).trim());
+        }
+        return ids;
+    }
+
+    private static TrainerSnapshot snapshot(Long id) {
+        return new TrainerSnapshot(id, "Asha", "Rao", "trainer" + id + "@example.com", ApplicationStatus.PENDING,
+                "Pune", 4, 50000.0, true, 0L);
+    }
+}
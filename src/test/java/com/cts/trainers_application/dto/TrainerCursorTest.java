@@ -0,0 +1,49 @@
+package com.cts.trainers_application.dto;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import com.cts.trainers_application.repository.TrainerSortKey;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrainerCursorTest {
+
+    @Test
+    void roundTripsSortKeyDirectionValueAndId() {
+        TrainerResponseDTO row = row(17L, "Port|Blair", 8);
+
+        assertThat(TrainerCursor.decode(TrainerCursor.after(TrainerSortKey.CITY, true, row).encode()))
+                .isEqualTo(new TrainerCursor(TrainerSortKey.CITY, true, "Port|Blair", 17L));
+        assertThat(TrainerCursor.decode(TrainerCursor.after(TrainerSortKey.YEARS_OF_EXPERIENCE, false, row).encode()))
+                .isEqualTo(new TrainerCursor(TrainerSortKey.YEARS_OF_EXPERIENCE, false, 8, 17L));
+    }
+
+    @Test
+    void parsesCreatedAtBackToATimestamp() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 4, 10, 15, 30, 120_000_000);
+        TrainerResponseDTO row = row(5L, "Pune", 2);
+        row.setCreatedAt(createdAt.toString());
+
+        TrainerCursor cursor = TrainerCursor.decode(TrainerCursor.after(TrainerSortKey.CREATED_AT, false, row).encode());
+
+        assertThat(cursor.value()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void rejectsATamperedCursor() {
+        assertThatThrownBy(() -> TrainerCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidTrainerDataException.class);
+        assertThatThrownBy(() -> TrainerCursor.decode(TrainerCursor.after(TrainerSortKey.ID, false, row(1L, "Pune", 2))
+                        .encode().substring(2)))
+                .isInstanceOf(InvalidTrainerDataException.class);
+    }
+
+    private static TrainerResponseDTO row(Long id, String city, int years) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 10, 9, 30);
+        return new TrainerResponseDTO(id, "Asha", "Rao", "asha@example.com", "9876543210", city, "Tamil Nadu",
+                "India", "M.Tech", years, ApplicationStatus.PENDING, 50000.0, true, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,48 @@
+package com.cts.trainers_application.entity;
+
+import org.junit.jupiter.api.Test;
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplicationStatusTest {
+
+    @Test
+    void rejectedAndHiredAreFinal() {
+        assertThat(ApplicationStatus.REJECTED.getAllowedTransitions()).isEmpty();
+        assertThat(ApplicationStatus.HIRED.getAllowedTransitions()).isEmpty();
+    }
+
+    @Test
+    void stagesCannotBeSkipped() {
+        assertThat(ApplicationStatus.PENDING.canTransitionTo(ApplicationStatus.UNDER_REVIEW)).isTrue();
+        assertThat(ApplicationStatus.PENDING.canTransitionTo(ApplicationStatus.APPROVED)).isFalse();
+        assertThat(ApplicationStatus.PENDING.canTransitionTo(ApplicationStatus.HIRED)).isFalse();
+        assertThat(ApplicationStatus.INTERVIEW_SCHEDULED.canTransitionTo(ApplicationStatus.HIRED)).isFalse();
+        assertThat(ApplicationStatus.APPROVED.canTransitionTo(ApplicationStatus.HIRED)).isTrue();
+    }
+
+    @Test
+    void noStatusTransitionsToItself() {
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            assertThat(status.canTransitionTo(status)).as(status.name()).isFalse();
+        }
+    }
+
+    @Test
+    void sourcesAreExactlyTheStatusesThatMayMoveToTheTarget() {
+        assertThat(ApplicationStatus.sourcesOf(ApplicationStatus.UNDER_REVIEW)).containsExactlyInAnyOrder(
+                ApplicationStatus.PENDING, ApplicationStatus.ON_HOLD, ApplicationStatus.INTERVIEW_SCHEDULED);
+        assertThat(ApplicationStatus.sourcesOf(ApplicationStatus.PENDING)).isEmpty();
+
+        for (ApplicationStatus target : ApplicationStatus.values()) {
+            EnumSet<ApplicationStatus> expected = EnumSet.noneOf(ApplicationStatus.class);
+            for (ApplicationStatus source : ApplicationStatus.values()) {
+                if (source.canTransitionTo(target)) {
+                    expected.add(source);
+                }
+            }
+            assertThat(ApplicationStatus.sourcesOf(target)).as(target.name()).isEqualTo(expected);
+        }
+    }
+}
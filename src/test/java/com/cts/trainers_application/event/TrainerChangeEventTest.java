@@ -0,0 +1,39 @@
+package com.cts.trainers_application.event;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrainerChangeEventTest {
+
+    @Test
+    void sequencesATrainersChangesByTheVersionTheyProduced() {
+        TrainerSnapshot created = snapshot(ApplicationStatus.PENDING, 0L);
+        TrainerSnapshot reviewed = created.withStatus(ApplicationStatus.UNDER_REVIEW, 1L);
+
+        assertThat(TrainerChangeEvent.created(created).sequence()).isZero();
+        assertThat(TrainerChangeEvent.statusChanged(created, reviewed).sequence()).isEqualTo(1L);
+        // A delete does not bump the version, so it is placed right after the last one
+        assertThat(TrainerChangeEvent.deleted(reviewed).sequence()).isEqualTo(2L);
+    }
+
+    @Test
+    void scalarSnapshotsLeaveSpecializationsOutInsteadOfClearingThem() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        TrainerSnapshot scalar = snapshot(ApplicationStatus.PENDING, 0L);
+        TrainerSnapshot full = new TrainerSnapshot(42L, "Asha", "Rao", "asha@example.com", ApplicationStatus.PENDING,
+                "Pune", 4, 50000.0, true, List.of("Java"), 0L);
+
+        assertThat(scalar.specializations()).isNull();
+        assertThat(mapper.readTree(mapper.writeValueAsString(scalar)).has("specializations")).isFalse();
+        assertThat(mapper.readTree(mapper.writeValueAsString(full)).get("specializations").get(0).asText())
+                .isEqualTo("Java");
+    }
+
+    private static TrainerSnapshot snapshot(ApplicationStatus status, Long version) {
+        return new TrainerSnapshot(42L, "Asha", "Rao", "asha@example.com", status, "Pune", 4, 50000.0, true, version);
+    }
+}
@@ -0,0 +1,99 @@
+package com.cts.trainers_application.exception;
+
+import com.cts.trainers_application.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// The 404 path from throw site to response body: the former stack-capturing exception with an ErrorResponse
+// serialized by Jackson, against the stackless TrainerNotFoundException with PreformattedErrorBody.
+// Not a test; run with: mvn test-compile exec:java -Dexec.classpathScope=test
+//   -Dexec.mainClass=com.cts.trainers_application.exception.NotFoundPathBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NotFoundPathBenchmark {
+
+    private static final Long ID = 100_000_042L;
+
+    private static final PreformattedErrorBody NOT_FOUND = new PreformattedErrorBody(HttpStatus.NOT_FOUND, "Not Found");
+
+    // Frames between the throw and the handler; a request through the Spring MVC stack has about a hundred
+    @Param({"10", "100"})
+    private int depth;
+
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        request = new MockHttpServletRequest("DELETE", "/api/trainers/" + ID);
+    }
+
+    @Benchmark
+    public String stackCapturingWithErrorResponse() throws Exception {
+        try {
+            throwAt(depth, true);
+            throw new AssertionError("not thrown");
+        } catch (StackCapturingNotFoundException ex) {
+            ErrorResponse body = new ErrorResponse(LocalDateTime.now(), HttpStatus.NOT_FOUND.value(), "Not Found",
+                    ex.getMessage(), new ServletWebRequest(request).getDescription(false));
+            return objectMapper.writeValueAsString(body);
+        }
+    }
+
+    @Benchmark
+    public String stacklessWithPreformattedBody() {
+        try {
+            throwAt(depth, false);
+            throw new AssertionError("not thrown");
+        } catch (TrainerNotFoundException ex) {
+            return NOT_FOUND.render(ex.getMessage(), request.getRequestURI()).getBody();
+        }
+    }
+
+    private static void throwAt(int depth, boolean captureStack) {
+        if (depth > 0) {
+            throwAt(depth - 1, captureStack);
+            return;
+        }
+        if (captureStack) {
+            throw new StackCapturingNotFoundException("Trainer not found with id: " + ID);
+        }
+        throw new TrainerNotFoundException(ID);
+    }
+
+    // TrainerNotFoundException as it was before it became stackless
+    private static class StackCapturingNotFoundException extends RuntimeException {
+        StackCapturingNotFoundException(String message) {
+            super(message);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(NotFoundPathBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,124 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.TestcontainersConfiguration;
+import com.cts.trainers_application.entity.OutboxEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Claims are row locks plus leases, so every step runs in its own committed transaction, as the relay does
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void claimedRowsStayHiddenUntilTheirLeaseRunsOut() {
+        List<Long> ids = insert(3);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> claimed = claim(now, 2, "node-a", now.plusSeconds(60));
+
+        // Never-claimed rows first, in id order
+        assertThat(claimed).containsExactlyElementsOf(ids.subList(0, 2));
+        assertThat(lockClaimable(now.plusSeconds(30))).containsExactly(ids.get(2));
+        // Once the lease is over the rows are claimable again, after the row nobody has claimed yet
+        assertThat(lockClaimable(now.plusSeconds(61))).containsExactly(ids.get(2), ids.get(0), ids.get(1));
+
+        OutboxEvent event = outboxEventRepository.findById(ids.get(0)).orElseThrow();
+        assertThat(event.getClaimedBy()).isEqualTo("node-a");
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(outboxEventRepository.findById(ids.get(2)).orElseThrow().getClaimedUntil())
+                .isEqualTo(OutboxEvent.UNCLAIMED);
+    }
+
+    @Test
+    void concurrentRelaysClaimDisjointBatches() {
+        List<Long> ids = insert(4);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<List<Long>> batches = transactionTemplate.execute(status -> {
+            List<Long> first = outboxEventRepository.lockClaimable(now, 2);
+            // A second relay polls while the first still holds its row locks
+            List<Long> second = CompletableFuture.supplyAsync(() -> lockClaimable(now)).join();
+            return List.of(first, second);
+        });
+
+        assertThat(batches.get(0)).containsExactlyElementsOf(ids.subList(0, 2));
+        // Skips the locked rows instead of waiting for them
+        assertThat(batches.get(1)).isNotEmpty().doesNotContainAnyElementsOf(batches.get(0)).contains(ids.get(3));
+    }
+
+    @Test
+    void deletesOnlyRowsThisNodeStillHolds() {
+        List<Long> ids = insert(2);
+        LocalDateTime now = LocalDateTime.now();
+        claim(now, 2, "node-a", now.minusSeconds(1));
+        // node-a's lease ran out during delivery and node-b took the second row over
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.claim(List.of(ids.get(1)), "node-b", now.plusSeconds(60)));
+
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteDelivered(ids, "node-a"));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getId).containsExactly(ids.get(1));
+    }
+
+    private List<Long> insert(int count) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        return outboxEventRepository.saveAllAndFlush(LongStream.rangeClosed(1, count)
+                        .mapToObj(trainerId -> new OutboxEvent(trainerId, 0L, "CREATED", "{}", createdAt))
+                        .toList())
+                .stream()
+                .map(OutboxEvent::getId)
+                .sorted()
+                .toList();
+    }
+
+    private List<Long> lockClaimable(LocalDateTime now) {
+        return transactionTemplate.execute(status -> outboxEventRepository.lockClaimable(now, 10));
+    }
+
+    private List<Long> claim(LocalDateTime now, int limit, String node, LocalDateTime until) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = outboxEventRepository.lockClaimable(now, limit);
+            outboxEventRepository.claim(ids, node, until);
+            return ids;
+        });
+    }
+}
@@ -0,0 +1,122 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.TestcontainersConfiguration;
+import com.cts.trainers_application.dto.TrainerCursor;
+import com.cts.trainers_application.dto.TrainerResponseDTO;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.entity.TrainerViews;
+import com.cts.trainers_application.service.TrainerSummaryReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.cts.trainers_application.TrainerFixtures.trainer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Walking a sort page by page with cursors visits every row exactly once, in the order of one unpaged read
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, TrainerSummaryReader.class})
+@Testcontainers(disabledWithoutDocker = true)
+class TrainerKeysetPagingTest {
+
+    private static final String[] CITIES = {"Pune", "Chennai", "Delhi"};
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private TrainerSummaryReader summaryReader;
+
+    private List<Trainer> trainers;
+
+    @BeforeEach
+    void setUp() {
+        // Few distinct cities and experience values, so most pages end in the middle of a run of equal keys
+        trainers = trainerRepository.saveAllAndFlush(IntStream.range(0, 14)
+                .mapToObj(i -> trainer("trainer" + i + "@example.com", CITIES[i % CITIES.length], i % 4,
+                        ApplicationStatus.PENDING, 50000.0))
+                .toList());
+    }
+
+    @Test
+    void walksById() {
+        List<Long> expected = trainers.stream().map(Trainer::getId).sorted().toList();
+
+        assertThat(walk(TrainerSpecifications.all(), TrainerSortKey.ID, false, 4)).containsExactlyElementsOf(expected);
+        assertThat(walk(TrainerSpecifications.all(), TrainerSortKey.ID, true, 4))
+                .containsExactlyElementsOf(expected.reversed());
+    }
+
+    @Test
+    void walksByCityWithIdAsTiebreaker() {
+        List<Long> expected = trainers.stream()
+                .sorted(Comparator.comparing(Trainer::getCity).thenComparing(Trainer::getId))
+                .map(Trainer::getId)
+                .toList();
+
+        assertThat(walk(TrainerSpecifications.all(), TrainerSortKey.CITY, false, 4)).containsExactlyElementsOf(expected);
+        assertThat(walk(TrainerSpecifications.all(), TrainerSortKey.CITY, true, 3))
+                .containsExactlyElementsOf(expected.reversed());
+    }
+
+    @Test
+    void walksByExperienceDescendingWithIdAscending() {
+        // idx_trainers_experience_rank order: most experienced first, ties in id order
+        List<Long> expected = trainers.stream()
+                .sorted(Comparator.comparing(Trainer::getYearsOfExperience).reversed().thenComparing(Trainer::getId))
+                .map(Trainer::getId)
+                .toList();
+
+        assertThat(walk(TrainerSpecifications.all(), TrainerSortKey.YEARS_OF_EXPERIENCE, true, 5))
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void walksASearchFilterIgnoringCase() {
+        List<Long> expected = trainers.stream()
+                .filter(trainer -> trainer.getCity().equals("Pune"))
+                .map(Trainer::getId)
+                .sorted()
+                .toList();
+
+        assertThat(walk(TrainerSpecifications.inCityIgnoreCase("pune"), TrainerSortKey.ID, false, 2))
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void matchesOneUnpagedRead() {
+        Specification<Trainer> filter = TrainerSpecifications.experienceAtLeast(1);
+        List<Long> unpaged = summaryReader.find(filter, TrainerSortKey.CITY.toSort(true), 1000, TrainerViews.Full.class).stream()
+                .map(TrainerResponseDTO::getId)
+                .toList();
+
+        assertThat(walk(filter, TrainerSortKey.CITY, true, 4)).containsExactlyElementsOf(unpaged);
+    }
+
+    private List<Long> walk(Specification<Trainer> filter, TrainerSortKey sortKey, boolean descending, int size) {
+        List<Long> seen = new ArrayList<>();
+        TrainerCursor cursor = null;
+        while (true) {
+            Specification<Trainer> seek = cursor == null ? filter : filter.and(TrainerSpecifications.after(cursor));
+            List<TrainerResponseDTO> rows = summaryReader.find(seek, sortKey.toSort(descending), size, TrainerViews.Full.class);
+            rows.forEach(row -> seen.add(row.getId()));
+            if (rows.size() < size) {
+                return seen;
+            }
+            // Through the encoded form, as a client hands it back
+            String next = TrainerCursor.after(sortKey, descending, rows.get(rows.size() - 1)).encode();
+            cursor = TrainerCursor.decode(next);
+        }
+    }
+}
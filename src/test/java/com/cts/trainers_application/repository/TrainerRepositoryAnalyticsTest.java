@@ -0,0 +1,111 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.TestcontainersConfiguration;
+import com.cts.trainers_application.dto.CityCount;
+import com.cts.trainers_application.dto.ExperienceCount;
+import com.cts.trainers_application.dto.SalarySummary;
+import com.cts.trainers_application.dto.StatusCount;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.cts.trainers_application.TrainerFixtures.trainer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+// The analytics rebuild reads these grouped rows instead of every trainer
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TrainerRepositoryAnalyticsTest {
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        trainerRepository.saveAllAndFlush(List.of(
+                trainer("asha@example.com", "Chennai", 2, ApplicationStatus.PENDING, 40000.0),
+                trainer("ravi@example.com", "chennai", 7, ApplicationStatus.PENDING, null),
+                trainer("meera@example.com", "Pune", 12, ApplicationStatus.HIRED, 80000.0)));
+    }
+
+    @Test
+    void countsTrainersPerStatus() {
+        assertThat(trainerRepository.countGroupedByApplicationStatus()).containsExactlyInAnyOrder(
+                new StatusCount(ApplicationStatus.PENDING, 2L),
+                new StatusCount(ApplicationStatus.HIRED, 1L));
+    }
+
+    @Test
+    void countsTrainersPerCityUnderTheColumnCollation() {
+        Map<String, Long> byCity = trainerRepository.countGroupedByCity().stream()
+                .collect(Collectors.toMap(row -> row.city().toLowerCase(Locale.ROOT), CityCount::count));
+
+        assertThat(byCity).containsOnly(entry("chennai", 2L), entry("pune", 1L));
+    }
+
+    @Test
+    void countsTrainersPerYearsOfExperience() {
+        assertThat(trainerRepository.countGroupedByYearsOfExperience()).containsExactlyInAnyOrder(
+                new ExperienceCount(2, 1L),
+                new ExperienceCount(7, 1L),
+                new ExperienceCount(12, 1L));
+    }
+
+    @Test
+    void summarizesOnlyTheSalariesThatAreSet() {
+        assertThat(trainerRepository.summarizeSalaryExpectations()).isEqualTo(new SalarySummary(120000.0, 2L));
+    }
+
+    // Before/after for the rebuild: findAll() hydrated one entity per trainer; the grouped reads hydrate none and
+    // return one row per distinct status, city and experience, however many trainers share them
+    @Test
+    void readsGroupedRowsInsteadOfHydratingEveryTrainer() {
+        trainerRepository.saveAllAndFlush(IntStream.range(0, 50)
+                .mapToObj(i -> trainer("hired" + i + "@example.com", "Pune", 12, ApplicationStatus.HIRED, 80000.0))
+                .toList());
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        trainerRepository.findAll();
+        long hydratedByFindAll = statistics.getEntityLoadCount();
+
+        statistics.clear();
+        int groupedRows = trainerRepository.countGroupedByApplicationStatus().size()
+                + trainerRepository.countGroupedByCity().size()
+                + trainerRepository.countGroupedByYearsOfExperience().size();
+        trainerRepository.summarizeSalaryExpectations();
+
+        assertThat(hydratedByFindAll).isEqualTo(53);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        // PENDING and HIRED; Chennai (either case) and Pune; 2, 7 and 12 years
+        assertThat(groupedRows).isEqualTo(2 + 2 + 3);
+    }
+
+    @Test
+    void summarizesAnEmptyTableAsZero() {
+        trainerRepository.deleteAllInBatch();
+
+        assertThat(trainerRepository.summarizeSalaryExpectations()).isEqualTo(new SalarySummary(0.0, 0L));
+    }
+}
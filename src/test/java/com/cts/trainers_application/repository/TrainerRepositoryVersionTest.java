@@ -0,0 +1,83 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.TestcontainersConfiguration;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Skill;
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.LocalDateTime;
+
+import static com.cts.trainers_application.TrainerFixtures.trainer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TrainerRepositoryVersionTest {
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void updatesStatusOnlyAtTheExpectedVersion() {
+        Trainer saved = trainerRepository.saveAndFlush(trainer("asha@example.com"));
+        Long id = saved.getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(saved.getVersion()).isZero();
+        assertThat(trainerRepository.updateStatusIfVersion(id, ApplicationStatus.UNDER_REVIEW, 0L, now)).isEqualTo(1);
+        // A second writer that also read version 0 loses the race
+        assertThat(trainerRepository.updateStatusIfVersion(id, ApplicationStatus.ON_HOLD, 0L, now)).isZero();
+
+        assertThat(trainerRepository.findSnapshotById(id).map(TrainerSnapshot::version)).contains(1L);
+        assertThat(trainerRepository.findSnapshotById(id).map(TrainerSnapshot::applicationStatus))
+                .contains(ApplicationStatus.UNDER_REVIEW);
+    }
+
+    @Test
+    void deletesOnlyAtTheExpectedVersionTogetherWithTheCollectionRows() {
+        Skill java = new Skill();
+        java.setName("java");
+        java.setDisplayName("Java");
+        Trainer trainer = trainer("asha@example.com");
+        trainer.getSkills().add(skillRepository.save(java));
+        Long id = trainerRepository.saveAndFlush(trainer).getId();
+        entityManager.clear();
+
+        assertThat(trainerRepository.deleteIfVersion(id, 1L)).isZero();
+        assertThat(rowsOf("trainer_specializations", id)).isEqualTo(2);
+
+        assertThat(trainerRepository.deleteIfVersion(id, 0L)).isEqualTo(1);
+        assertThat(trainerRepository.findSnapshotById(id)).isEmpty();
+        assertThat(rowsOf("trainer_specializations", id)).isZero();
+        assertThat(rowsOf("trainer_certifications", id)).isZero();
+        assertThat(rowsOf("trainer_skills", id)).isZero();
+        // Already gone: nothing to delete, which the service reports as 404
+        assertThat(trainerRepository.deleteIfVersion(id, 0L)).isZero();
+    }
+
+    @Test
+    void hasNoSnapshotForAMissingTrainer() {
+        assertThat(trainerRepository.findSnapshotById(-1L)).isEmpty();
+    }
+
+    private long rowsOf(String table, Long trainerId) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table + " WHERE trainer_id = ?1")
+                .setParameter(1, trainerId)
+                .getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,68 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.TestcontainersConfiguration;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every sort key is served by an index on (column, id) in the schema the entity mappings create, so a page is an
+// index walk rather than a filesort of the whole table
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TrainerSortIndexTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void backsEverySortKeyWithAColumnThenIdIndex() {
+        Map<String, List<String>> indexes = trainerIndexes();
+
+        for (TrainerSortKey key : TrainerSortKey.values()) {
+            String column = columnOf(key.getProperty());
+            // A single-column index also works: InnoDB secondary indexes end with the primary key
+            assertThat(indexes.values())
+                    .as("index led by %s for %s", column, key)
+                    .anyMatch(columns -> columns.get(0).startsWith(column + " ")
+                            && (columns.size() == 1 || columns.get(1).startsWith("id ")));
+        }
+    }
+
+    @Test
+    void storesExperienceDescendingWithIdAscending() {
+        assertThat(trainerIndexes().get("idx_trainers_experience_rank"))
+                .containsExactly("years_of_experience D", "id A");
+    }
+
+    // Index name -> "column collation" in index order, collation A (ascending) or D (descending)
+    private Map<String, List<String>> trainerIndexes() {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT INDEX_NAME, COLUMN_NAME, COLLATION FROM information_schema.STATISTICS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'trainers' ORDER BY INDEX_NAME, SEQ_IN_INDEX")
+                .getResultList();
+        Map<String, List<String>> indexes = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            indexes.computeIfAbsent((String) row[0], name -> new ArrayList<>()).add(row[1] + " " + row[2]);
+        }
+        return indexes;
+    }
+
+    // Spring's physical naming strategy: camelCase properties become snake_case columns
+    private static String columnOf(String property) {
+        return property.replaceAll("([A-Z])", "_$1").toLowerCase(Locale.ROOT);
+    }
+}
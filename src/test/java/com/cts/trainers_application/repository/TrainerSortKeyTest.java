@@ -0,0 +1,37 @@
+package com.cts.trainers_application.repository;
+
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrainerSortKeyTest {
+
+    @Test
+    void resolvesOnlyIndexBackedProperties() {
+        assertThat(TrainerSortKey.fromProperty("lastName")).isEqualTo(TrainerSortKey.LAST_NAME);
+        assertThat(TrainerSortKey.fromProperty("yearsOfExperience")).isEqualTo(TrainerSortKey.YEARS_OF_EXPERIENCE);
+
+        assertThatThrownBy(() -> TrainerSortKey.fromProperty("additionalNotes"))
+                .isInstanceOf(InvalidTrainerDataException.class)
+                .hasMessageContaining("additionalNotes")
+                .hasMessageContaining("firstName");
+        // Entity property names only, matched exactly
+        assertThatThrownBy(() -> TrainerSortKey.fromProperty("last_name"))
+                .isInstanceOf(InvalidTrainerDataException.class);
+    }
+
+    @Test
+    void appendsIdAsTiebreakerInTheIndexDirection() {
+        assertThat(TrainerSortKey.CITY.toSort(false))
+                .isEqualTo(Sort.by(Sort.Order.asc("city"), Sort.Order.asc("id")));
+        assertThat(TrainerSortKey.CITY.toSort(true))
+                .isEqualTo(Sort.by(Sort.Order.desc("city"), Sort.Order.desc("id")));
+        // idx_trainers_experience_rank is (years_of_experience DESC, id ASC)
+        assertThat(TrainerSortKey.YEARS_OF_EXPERIENCE.toSort(true))
+                .isEqualTo(Sort.by(Sort.Order.desc("yearsOfExperience"), Sort.Order.asc("id")));
+        assertThat(TrainerSortKey.ID.toSort(true)).isEqualTo(Sort.by(Sort.Order.desc("id")));
+    }
+}
@@ -0,0 +1,104 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.CityCount;
+import com.cts.trainers_application.dto.ExperienceCount;
+import com.cts.trainers_application.dto.SalarySummary;
+import com.cts.trainers_application.dto.StatusCount;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.repository.TrainerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalyticsAggregatorTest {
+
+    private final TrainerRepository trainerRepository = mock(TrainerRepository.class);
+    private final TrainerWriteGeneration writeGeneration = mock(TrainerWriteGeneration.class);
+    private final AnalyticsAggregator aggregator = new AnalyticsAggregator(trainerRepository, writeGeneration, true);
+
+    @BeforeEach
+    void setUp() {
+        when(trainerRepository.countGroupedByApplicationStatus()).thenReturn(List.of(
+                new StatusCount(ApplicationStatus.PENDING, 3L),
+                new StatusCount(ApplicationStatus.HIRED, 1L)));
+        when(trainerRepository.countGroupedByCity()).thenReturn(List.of(
+                new CityCount("Bengaluru", 3L),
+                new CityCount("Pune", 1L)));
+        when(trainerRepository.countGroupedByYearsOfExperience()).thenReturn(List.of(
+                new ExperienceCount(1, 1L),
+                new ExperienceCount(4, 2L),
+                new ExperienceCount(12, 1L)));
+        when(trainerRepository.summarizeSalaryExpectations()).thenReturn(new SalarySummary(90000.0, 2L));
+        aggregator.rebuild();
+    }
+
+    @Test
+    void rebuildsFromGroupedRowsWithoutLoadingTrainers() {
+        assertThat(aggregator.getStatusCounts())
+                .containsOnly(entry(ApplicationStatus.PENDING, 3L), entry(ApplicationStatus.HIRED, 1L));
+        assertThat(aggregator.getCityCounts()).containsOnly(entry("Bengaluru", 3L), entry("Pune", 1L));
+        assertThat(aggregator.getExperienceBucketCounts()).containsExactly(entry(0, 3L), entry(10, 1L));
+        assertThat(aggregator.getAverageSalary()).isEqualTo(45000.0);
+        verify(trainerRepository, never()).findAll();
+    }
+
+    @Test
+    void appliesCommittedChangesAsDeltas() {
+        TrainerSnapshot before = snapshot(ApplicationStatus.PENDING, "Pune", 4, 30000.0);
+        TrainerSnapshot after = snapshot(ApplicationStatus.UNDER_REVIEW, "Pune", 6, 30000.0);
+
+        aggregator.onTrainerChanged(TrainerChangeEvent.updated(before, after));
+
+        assertThat(aggregator.getStatusCounts()).containsOnly(entry(ApplicationStatus.PENDING, 2L),
+                entry(ApplicationStatus.UNDER_REVIEW, 1L), entry(ApplicationStatus.HIRED, 1L));
+        assertThat(aggregator.getExperienceBucketCounts()).containsExactly(entry(0, 2L), entry(5, 1L), entry(10, 1L));
+    }
+
+    @Test
+    void countsCitySpellingsTogetherAsTheGroupByDoes() {
+        aggregator.onTrainerChanged(TrainerChangeEvent.created(snapshot(ApplicationStatus.PENDING, "BENGALURU", 2, null)));
+        aggregator.onTrainerChanged(TrainerChangeEvent.deleted(snapshot(ApplicationStatus.HIRED, "Puné", 12, null)));
+
+        assertThat(aggregator.getCityCounts()).containsOnly(entry("Bengaluru", 4L));
+    }
+
+    @Test
+    void leavesTheAverageUnchangedForTrainersWithoutSalary() {
+        aggregator.onTrainerChanged(TrainerChangeEvent.created(snapshot(ApplicationStatus.PENDING, "Pune", 3, null)));
+        aggregator.onTrainerChanged(TrainerChangeEvent.created(snapshot(ApplicationStatus.PENDING, "Pune", 3, 15000.0)));
+
+        assertThat(aggregator.getAverageSalary()).isEqualTo(35000.0);
+    }
+
+    @Test
+    void withSeveralNodesRereadsTheGroupedRowsOnlyWhenTheSharedGenerationMoves() {
+        AnalyticsAggregator shared = new AnalyticsAggregator(trainerRepository, writeGeneration, false);
+        when(writeGeneration.current()).thenReturn("5", "5", "6");
+
+        assertThat(shared.getCityCounts()).containsOnly(entry("Bengaluru", 3L), entry("Pune", 1L));
+        // A local write is not applied as a delta; the generation it moves triggers the re-read instead
+        shared.onTrainerChanged(TrainerChangeEvent.created(snapshot(ApplicationStatus.PENDING, "Pune", 3, null)));
+        assertThat(shared.getCityCounts()).containsOnly(entry("Bengaluru", 3L), entry("Pune", 1L));
+        when(trainerRepository.countGroupedByCity()).thenReturn(List.of(
+                new CityCount("Bengaluru", 3L),
+                new CityCount("Pune", 2L)));
+        assertThat(shared.getCityCounts()).containsOnly(entry("Bengaluru", 3L), entry("Pune", 2L));
+
+        // Once by setUp's single-node rebuild, then at generations 5 and 6
+        verify(trainerRepository, times(3)).countGroupedByCity();
+    }
+
+    private static TrainerSnapshot snapshot(ApplicationStatus status, String city, int years, Double salary) {
+        return new TrainerSnapshot(42L, "Asha", "Rao", "asha@example.com", status, city, years, salary, true, 0L);
+    }
+}
@@ -0,0 +1,127 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import com.cts.trainers_application.exception.ServiceBusyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Idempotency-Key replay: one execution per key and body, failures forgotten, concurrent retries wait for the original
+class IdempotencyStoreTest {
+
+    private static final String SCOPE = "POST /api/trainers";
+
+    private final IdempotencyStore store = new IdempotencyStore(new ObjectMapper(), new SimpleMeterRegistry(),
+            100, Duration.ofHours(1), Duration.ofMillis(200));
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void replaysTheFirstResponseForTheSameKeyAndBody() {
+        ResponseEntity<String> first = store.execute(SCOPE, "key-1", Map.of("email", "asha@example.com"), this::create);
+        ResponseEntity<String> retry = store.execute(SCOPE, "key-1", Map.of("email", "asha@example.com"), this::create);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getBody()).isEqualTo(first.getBody());
+        assertThat(retry.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    void rejectsAKeyReusedForADifferentBody() {
+        store.execute(SCOPE, "key-1", Map.of("email", "asha@example.com"), this::create);
+
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-1", Map.of("email", "ravi@example.com"), this::create))
+                .isInstanceOf(InvalidTrainerDataException.class)
+                .hasMessageContaining("different request");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void keepsTheSameKeyApartAcrossScopes() {
+        store.execute(SCOPE, "key-1", Map.of("email", "asha@example.com"), this::create);
+        store.execute("POST /api/trainers/bulk", "key-1", Map.of("email", "asha@example.com"), this::create);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void forgetsAFailedAttemptSoTheRetryRuns() {
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-1", "body", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        ResponseEntity<String> retry = store.execute(SCOPE, "key-1", "body", this::create);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getHeaders().containsKey(IdempotencyStore.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    void makesAConcurrentRetryWaitForTheOriginal() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<String>> original = CompletableFuture.supplyAsync(() ->
+                store.execute(SCOPE, "key-1", "body", () -> {
+                    started.countDown();
+                    await(release);
+                    return create();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<ResponseEntity<String>> retry = CompletableFuture.supplyAsync(() ->
+                store.execute(SCOPE, "key-1", "body", this::create));
+        release.countDown();
+
+        assertThat(retry.get(5, TimeUnit.SECONDS).getBody()).isEqualTo(original.get(5, TimeUnit.SECONDS).getBody());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void turnsAwayARetryWhileTheOriginalOutlastsTheWait() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<String>> original = CompletableFuture.supplyAsync(() ->
+                store.execute(SCOPE, "key-1", "body", () -> {
+                    started.countDown();
+                    await(release);
+                    return create();
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-1", "body", this::create))
+                .isInstanceOf(ServiceBusyException.class);
+
+        release.countDown();
+        original.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void rejectsABlankKey() {
+        assertThatThrownBy(() -> store.execute(SCOPE, " ", "body", this::create))
+                .isInstanceOf(InvalidTrainerDataException.class);
+    }
+
+    private ResponseEntity<String> create() {
+        return ResponseEntity.status(HttpStatus.CREATED).body("trainer " + executions.incrementAndGet());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
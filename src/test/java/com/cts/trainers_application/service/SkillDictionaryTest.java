@@ -0,0 +1,59 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.TestcontainersConfiguration;
+import com.cts.trainers_application.entity.Skill;
+import com.cts.trainers_application.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Against MySQL, so names are compared under the real uk_skills_name collation
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, SkillDictionary.class})
+@Testcontainers(disabledWithoutDocker = true)
+class SkillDictionaryTest {
+
+    @Autowired
+    private SkillDictionary skillDictionary;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Test
+    void internsSpellingsTheCollationEquatesAsOneSkill() {
+        Map<String, Skill> skills = skillDictionary.intern(List.of(" Café  Design", "CAFE design"));
+
+        assertThat(skills).containsOnlyKeys("cafe design");
+        assertThat(skills.get("cafe design").getDisplayName()).isEqualTo("Café  Design");
+        assertThat(skillRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void resolvesRowsStoredUnderAnUnfoldedName() {
+        // data.sql backfills names lower-cased only, accents kept
+        Skill backfilled = new Skill();
+        backfilled.setName("señal processing");
+        backfilled.setDisplayName("Señal Processing");
+        skillRepository.saveAndFlush(backfilled);
+
+        Map<String, Skill> skills = skillDictionary.intern(List.of("Senal Processing"));
+
+        assertThat(skills.get("senal processing").getId()).isEqualTo(backfilled.getId());
+        assertThat(skillRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void internsSpecializationsAsLongAsTheirColumn() {
+        String longest = "x".repeat(255);
+
+        assertThat(skillDictionary.intern(List.of(longest))).containsKey(longest);
+    }
+}
@@ -0,0 +1,174 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.TestcontainersConfiguration;
+import com.cts.trainers_application.dto.BulkImportReport;
+import com.cts.trainers_application.dto.BulkImportResult;
+import com.cts.trainers_application.entity.OutboxEvent;
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.repository.OutboxEventRepository;
+import com.cts.trainers_application.repository.TrainerRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.cts.trainers_application.TrainerFixtures.trainer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Chunks commit on their own transactions, so this runs against the full context and cleans up after itself
+@SpringBootTest(properties = "trainers.outbox.relay.enabled=false")
+@Import(TestcontainersConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+class TrainerBulkImportServiceTest {
+
+    @Autowired
+    private TrainerBulkImportService bulkImportService;
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAllInBatch();
+        trainerRepository.deleteAll();
+    }
+
+    @Test
+    void reportsEveryRecordAndInsertsOnlyTheNewValidOnes() {
+        trainerRepository.saveAndFlush(trainer("existing@example.com"));
+        Trainer invalid = trainer("blank@example.com");
+        invalid.setFirstName("");
+
+        BulkImportReport report = bulkImportService.importTrainers(ndjson(
+                trainer("asha@example.com"),
+                invalid,
+                trainer("ASHA@example.com"),
+                trainer("existing@example.com"),
+                trainer("ravi@example.com")));
+
+        assertThat(report.results()).extracting(BulkImportResult::outcome).containsExactly(
+                BulkImportResult.Outcome.CREATED,
+                BulkImportResult.Outcome.INVALID,
+                BulkImportResult.Outcome.DUPLICATE,
+                BulkImportResult.Outcome.DUPLICATE,
+                BulkImportResult.Outcome.CREATED);
+        assertThat(report.received()).isEqualTo(5);
+        assertThat(report.created()).isEqualTo(2);
+        assertThat(report.results().get(1).message()).contains("firstName");
+        assertThat(trainerRepository.count()).isEqualTo(3);
+        assertThat(report.results().get(4).id())
+                .isEqualTo(trainerRepository.findByEmail("ravi@example.com").orElseThrow().getId());
+    }
+
+    @Test
+    void retriesAFailedChunkRowByRowSoOnlyTheBadRecordFails() {
+        // Passes bean validation, but the certification column only holds 255 characters
+        Trainer tooLong = trainer("meera@example.com");
+        tooLong.setCertifications(List.of("x".repeat(300)));
+
+        BulkImportReport report = bulkImportService.importTrainers(ndjson(
+                trainer("asha@example.com"),
+                tooLong,
+                trainer("ravi@example.com")));
+
+        assertThat(report.results()).extracting(BulkImportResult::outcome).containsExactly(
+                BulkImportResult.Outcome.CREATED,
+                BulkImportResult.Outcome.FAILED,
+                BulkImportResult.Outcome.CREATED);
+        assertThat(trainerRepository.findAll()).extracting(Trainer::getEmail)
+                .containsExactlyInAnyOrder("asha@example.com", "ravi@example.com");
+        // The rolled-back chunk left no outbox rows behind; each created trainer has exactly one
+        assertThat(outboxEventRepository.findAll()).extracting(OutboxEvent::getTrainerId)
+                .containsExactlyInAnyOrder(report.results().get(0).id(), report.results().get(2).id());
+    }
+
+    // Before/after for batching: one INSERT per row would be at least 700 statements for these 100 trainers
+    // (trainer, 2 specializations, 1 certification, 2 skill links and 1 outbox row each)
+    @Test
+    void insertsAChunkInMultiRowStatements() {
+        Trainer[] trainers = IntStream.range(0, 100)
+                .mapToObj(i -> trainer("trainer" + i + "@example.com"))
+                .toArray(Trainer[]::new);
+        long insertsBefore = insertStatements();
+
+        BulkImportReport report = bulkImportService.importTrainers(ndjson(trainers));
+
+        assertThat(report.created()).isEqualTo(100);
+        assertThat(insertStatements() - insertsBefore).isLessThan(50);
+    }
+
+    // Before/after for the pooled generator: with IDENTITY every row's key came back from its own INSERT, which
+    // turned batching off; the table generator reserves ids 50 at a time with one row-locked UPDATE
+    @Test
+    void reservesTrainerIdsInBlocksOfFifty() {
+        Trainer[] trainers = IntStream.range(0, 100)
+                .mapToObj(i -> trainer("pooled" + i + "@example.com"))
+                .toArray(Trainer[]::new);
+        long nextIdBefore = nextTrainerId();
+
+        BulkImportReport report = bulkImportService.importTrainers(ndjson(trainers));
+
+        assertThat(report.results()).extracting(BulkImportResult::id).doesNotHaveDuplicates().hasSize(100);
+        // Two reservations at most, fewer if this node still held part of a block
+        assertThat((nextTrainerId() - nextIdBefore) / 50).isLessThanOrEqualTo(2L);
+    }
+
+    @Test
+    void stopsAtAMalformedRecordKeepingWhatCameBefore() {
+        String payload = json(trainer("asha@example.com")) + "\n{\"firstName\": ";
+
+        BulkImportReport report = bulkImportService.importTrainers(
+                new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(report.results()).extracting(BulkImportResult::outcome).containsExactly(
+                BulkImportResult.Outcome.CREATED,
+                BulkImportResult.Outcome.INVALID);
+        assertThat(report.results().get(1).message()).startsWith("Malformed record");
+        assertThat(trainerRepository.count()).isEqualTo(1);
+    }
+
+    // INSERT statements the server has executed, counting a multi-row INSERT once
+    private long insertStatements() {
+        return jdbcTemplate.queryForObject("SHOW GLOBAL STATUS LIKE 'Com_insert'", (rs, row) -> rs.getLong(2));
+    }
+
+    private long nextTrainerId() {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generators WHERE sequence_name = 'trainers'", Long.class);
+    }
+
+    private InputStream ndjson(Trainer... trainers) {
+        String payload = Stream.of(trainers).map(this::json).collect(Collectors.joining("\n"));
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String json(Trainer trainer) {
+        try {
+            return objectMapper.writeValueAsString(trainer);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrainerCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<Long, Trainer> loader = id -> {
+        loads.incrementAndGet();
+        Trainer trainer = new Trainer();
+        trainer.setId(id);
+        trainer.setEmail("asha@example.com");
+        return trainer;
+    };
+
+    @Test
+    void servesAWarmIdWithoutLoadingIt() {
+        TrainerCache cache = cache(Duration.ofMinutes(1));
+
+        Trainer first = cache.get(7L, loader);
+        Trainer second = cache.get(7L, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void doesNotCacheAMissingTrainer() {
+        TrainerCache cache = cache(Duration.ofMinutes(1));
+
+        assertThat(cache.get(7L, id -> null)).isNull();
+        assertThat(cache.get(7L, loader)).isNotNull();
+    }
+
+    @Test
+    void evictsTheTrainerAndItsEmailsOnACommittedChange() {
+        TrainerCache cache = cache(Duration.ofMinutes(1));
+        cache.get(7L, loader);
+        assertThat(cache.getIdByEmail("Asha@Example.com", email -> 7L)).isEqualTo(7L);
+
+        cache.onTrainerChanged(TrainerChangeEvent.updated(snapshot("asha@example.com"), snapshot("asha.rao@example.com")));
+
+        cache.get(7L, loader);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getIdByEmail("asha@example.com", email -> null)).isNull();
+    }
+
+    @Test
+    void reloadsOnceTheStalenessWindowHasPassed() throws InterruptedException {
+        // Other nodes' writes never reach onTrainerChanged; expiry is what makes them visible
+        TrainerCache cache = cache(Duration.ofMillis(20));
+        cache.get(7L, loader);
+
+        Thread.sleep(100);
+        cache.get(7L, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private static TrainerCache cache(Duration maxStaleness) {
+        return new TrainerCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), maxStaleness, false);
+    }
+
+    private static TrainerSnapshot snapshot(String email) {
+        return new TrainerSnapshot(7L, "Asha", "Rao", email, ApplicationStatus.PENDING, "Pune", 4, 50000.0, true, 0L);
+    }
+}
@@ -0,0 +1,95 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.TrainerFacets;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.repository.TrainerRepository;
+import org.junit.jupiter.api.Test;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrainerFacetIndexTest {
+
+    private final TrainerRepository trainerRepository = mock(TrainerRepository.class);
+    private final TrainerWriteGeneration writeGeneration = mock(TrainerWriteGeneration.class);
+
+    @Test
+    void matchesCitiesAsTheColumnCollationDoes() {
+        TrainerFacetIndex index = indexOf(true,
+                snapshot(1L, ApplicationStatus.PENDING, "Bogotá", 3, 40000.0),
+                snapshot(2L, ApplicationStatus.PENDING, "BOGOTA", 6, null),
+                snapshot(3L, ApplicationStatus.HIRED, "Pune", 12, 90000.0));
+
+        assertThat(ids(index.match(null, List.of("bogota"), null, null, null, null, null))).containsExactly(1, 2);
+        // Counted under the first spelling seen, as the GROUP BY reports it
+        assertThat(index.facets(index.match(null, null, null, null, null, null, null)).city())
+                .containsOnly(entry("Bogotá", 2L), entry("Pune", 1L));
+    }
+
+    @Test
+    void intersectsFacetFiltersAndSkipsTrainersWithoutSalary() {
+        TrainerFacetIndex index = indexOf(true,
+                snapshot(1L, ApplicationStatus.PENDING, "Pune", 3, 40000.0),
+                snapshot(2L, ApplicationStatus.PENDING, "Pune", 6, null),
+                snapshot(3L, ApplicationStatus.HIRED, "Pune", 12, 90000.0));
+
+        assertThat(ids(index.match(List.of(ApplicationStatus.PENDING), null, 5, null, null, null, null)))
+                .containsExactly(2);
+        assertThat(ids(index.match(null, null, null, null, null, 30000.0, 100000.0))).containsExactly(1, 3);
+
+        TrainerFacets facets = index.facets(index.match(List.of(ApplicationStatus.PENDING), null, null, null,
+                null, null, null));
+        assertThat(facets.status()).containsOnly(entry(ApplicationStatus.PENDING, 2L));
+        assertThat(facets.experience()).containsExactly(entry(0, 1L), entry(5, 1L));
+    }
+
+    @Test
+    void movesATrainerBetweenFacetsOnACommittedChange() {
+        TrainerSnapshot before = snapshot(1L, ApplicationStatus.PENDING, "Pune", 3, 40000.0);
+        TrainerFacetIndex index = indexOf(true, before);
+
+        index.onTrainerChanged(TrainerChangeEvent.statusChanged(before, before.withStatus(ApplicationStatus.ON_HOLD, 1L)));
+
+        assertThat(ids(index.match(List.of(ApplicationStatus.PENDING), null, null, null, null, null, null))).isEmpty();
+        assertThat(ids(index.match(List.of(ApplicationStatus.ON_HOLD), null, null, null, null, null, null)))
+                .containsExactly(1);
+    }
+
+    @Test
+    void resyncPicksUpOtherNodesWritesOnceTheGenerationMoves() {
+        when(writeGeneration.current()).thenReturn("5", "6");
+        TrainerFacetIndex index = indexOf(false, snapshot(1L, ApplicationStatus.PENDING, "Pune", 3, 40000.0));
+
+        when(trainerRepository.findSnapshotsAfter(0L, 10_000)).thenReturn(List.of(
+                snapshot(1L, ApplicationStatus.PENDING, "Pune", 3, 40000.0),
+                snapshot(2L, ApplicationStatus.PENDING, "Delhi", 3, 40000.0)));
+        index.resync();
+
+        assertThat(ids(index.match(null, List.of("delhi"), null, null, null, null, null))).containsExactly(2);
+    }
+
+    private TrainerFacetIndex indexOf(boolean singleNode, TrainerSnapshot... trainers) {
+        when(trainerRepository.findSnapshotsAfter(anyLong(), anyInt())).thenReturn(List.of());
+        when(trainerRepository.findSnapshotsAfter(0L, 10_000)).thenReturn(List.of(trainers));
+        TrainerFacetIndex index = new TrainerFacetIndex(trainerRepository, writeGeneration, singleNode);
+        index.afterSingletonsInstantiated();
+        return index;
+    }
+
+    private static List<Integer> ids(BitSet bits) {
+        return bits.stream().boxed().toList();
+    }
+
+    private static TrainerSnapshot snapshot(Long id, ApplicationStatus status, String city, int years, Double salary) {
+        return new TrainerSnapshot(id, "Asha", "Rao", "trainer" + id + "@example.com", status, city, years, salary,
+                true, 0L);
+    }
+}
@@ -0,0 +1,84 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.TrainerName;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.repository.TrainerRepository;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrainerNameIndexTest {
+
+    private final TrainerRepository trainerRepository = mock(TrainerRepository.class);
+    private final TrainerWriteGeneration writeGeneration = mock(TrainerWriteGeneration.class);
+
+    @Test
+    void ranksPrefixesBeforeInfixesAndFoldsAccents() {
+        TrainerNameIndex index = indexOf(true,
+                new TrainerName(1L, "Asha", "Rao"),
+                new TrainerName(2L, "Ravi", "Kumar"),
+                new TrainerName(3L, "Kiran", "Sharavan"),
+                new TrainerName(4L, "José", "Ramos"));
+
+        assertThat(index.search("Ra", false, 10)).containsExactly(1L, 2L, 4L);
+        assertThat(index.search("har", false, 10)).containsExactly(3L);
+        assertThat(index.search("jose", false, 10)).containsExactly(4L);
+    }
+
+    @Test
+    void findsMisspelledNamesOnlyWhenFuzzy() {
+        TrainerNameIndex index = indexOf(true, new TrainerName(1L, "Priyanka", "Iyer"));
+
+        assertThat(index.search("priyanak", false, 10)).isEmpty();
+        assertThat(index.search("priyanak", true, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void appliesCommittedRenamesAndDeletes() {
+        TrainerNameIndex index = indexOf(true, new TrainerName(1L, "Asha", "Rao"), new TrainerName(2L, "Ravi", "Kumar"));
+
+        index.onTrainerChanged(TrainerChangeEvent.updated(snapshot(1L, "Asha", "Rao"), snapshot(1L, "Meera", "Rao")));
+        index.onTrainerChanged(TrainerChangeEvent.deleted(snapshot(2L, "Ravi", "Kumar")));
+
+        assertThat(index.search("asha", false, 10)).isEmpty();
+        assertThat(index.search("meera", false, 10)).containsExactly(1L);
+        assertThat(index.search("ravi", false, 10)).isEmpty();
+    }
+
+    @Test
+    void resyncPicksUpOtherNodesWritesOnceTheGenerationMoves() {
+        when(writeGeneration.current()).thenReturn("5", "5", "6");
+        TrainerNameIndex index = indexOf(false, new TrainerName(1L, "Asha", "Rao"));
+
+        index.resync(); // generation 5 still: nothing to do
+        when(trainerRepository.findNamesAfter(0L, 10_000))
+                .thenReturn(List.of(new TrainerName(1L, "Asha", "Rao"), new TrainerName(2L, "Ravi", "Kumar")));
+        index.resync(); // 6: written elsewhere
+
+        assertThat(index.search("ravi", false, 10)).containsExactly(2L);
+        verify(trainerRepository, times(2)).findNamesAfter(eq(0L), anyInt());
+    }
+
+    private TrainerNameIndex indexOf(boolean singleNode, TrainerName... names) {
+        when(trainerRepository.findNamesAfter(anyLong(), anyInt())).thenReturn(List.of());
+        when(trainerRepository.findNamesAfter(0L, 10_000)).thenReturn(List.of(names));
+        TrainerNameIndex index = new TrainerNameIndex(trainerRepository, writeGeneration, singleNode);
+        index.afterSingletonsInstantiated();
+        return index;
+    }
+
+    private static TrainerSnapshot snapshot(Long id, String firstName, String lastName) {
+        return new TrainerSnapshot(id, firstName, lastName, "trainer" + id + "@example.com",
+                ApplicationStatus.PENDING, "Pune", 4, 50000.0, true, 0L);
+    }
+}
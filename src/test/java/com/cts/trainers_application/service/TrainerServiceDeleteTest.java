@@ -0,0 +1,110 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.exception.TrainerNotFoundException;
+import com.cts.trainers_application.exception.TrainerVersionMismatchException;
+import com.cts.trainers_application.repository.TrainerRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// Delete: a projection read for the listeners, then one compare-and-set DELETE retried on a lost race
+class TrainerServiceDeleteTest {
+
+    private static final Long ID = 7L;
+
+    private final TrainerRepository trainerRepository = mock(TrainerRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final TrainerCache trainerCache = mock(TrainerCache.class);
+    private final TrainerService trainerService = new TrainerService(trainerRepository,
+            mock(AnalyticsAggregator.class), trainerCache, mock(TrainerNameIndex.class),
+            mock(TrainerSkillIndex.class), mock(TrainerSummaryReader.class), mock(SkillDictionary.class),
+            eventPublisher, mock(TrainerWriteGeneration.class));
+
+    @Test
+    void deletesWithoutLoadingTheTrainerAndPublishesTheReadValues() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(Optional.of(snapshot(3L)));
+        when(trainerRepository.deleteIfVersion(ID, 3L)).thenReturn(1);
+
+        trainerService.deleteTrainer(ID, 3L);
+
+        verify(trainerRepository, never()).findById(any());
+        ArgumentCaptor<TrainerChangeEvent> event = ArgumentCaptor.forClass(TrainerChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(TrainerChangeEvent.Type.DELETED);
+        assertThat(event.getValue().before().email()).isEqualTo("asha@example.com");
+        assertThat(event.getValue().sequence()).isEqualTo(4L);
+    }
+
+    @Test
+    void reportsAMissingTrainerAsNotFound() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> trainerService.deleteTrainer(ID, null))
+                .isInstanceOf(TrainerNotFoundException.class);
+        verify(trainerRepository, never()).deleteIfVersion(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void reportsATrainerDeletedConcurrentlyAsNotFound() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(Optional.of(snapshot(0L)), Optional.empty());
+        when(trainerRepository.deleteIfVersion(ID, 0L)).thenReturn(0);
+
+        assertThatThrownBy(() -> trainerService.deleteTrainer(ID, null))
+                .isInstanceOf(TrainerNotFoundException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void rejectsAStaleIfMatchVersionBeforeDeleting() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(Optional.of(snapshot(4L)));
+
+        assertThatThrownBy(() -> trainerService.deleteTrainer(ID, 3L))
+                .isInstanceOf(TrainerVersionMismatchException.class);
+        verify(trainerRepository, never()).deleteIfVersion(any(), any());
+        verify(trainerCache).invalidate(ID);
+    }
+
+    @Test
+    void retriesOnTheCommittedVersionAfterLosingARace() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(Optional.of(snapshot(0L)), Optional.of(snapshot(1L)));
+        when(trainerRepository.deleteIfVersion(ID, 0L)).thenReturn(0);
+        when(trainerRepository.deleteIfVersion(ID, 1L)).thenReturn(1);
+
+        trainerService.deleteTrainer(ID, null);
+
+        verify(trainerRepository).deleteIfVersion(ID, 1L);
+        verify(eventPublisher).publishEvent(any(TrainerChangeEvent.class));
+    }
+
+    @Test
+    void givesUpWhenTheTrainerKeepsChanging() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(Optional.of(snapshot(0L)));
+        when(trainerRepository.deleteIfVersion(eq(ID), anyLong())).thenReturn(0);
+
+        assertThatThrownBy(() -> trainerService.deleteTrainer(ID, null))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static TrainerSnapshot snapshot(Long version) {
+        return new TrainerSnapshot(ID, "Asha", "Rao", "asha@example.com", ApplicationStatus.PENDING, "Pune", 4,
+                50000.0, true, version);
+    }
+}
@@ -0,0 +1,109 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.TrainerStatusChange;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.exception.InvalidStatusTransitionException;
+import com.cts.trainers_application.exception.TrainerVersionMismatchException;
+import com.cts.trainers_application.repository.TrainerRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// The status fast path: state machine check, then a compare-and-set UPDATE retried on a lost race
+class TrainerServiceStatusTest {
+
+    private static final Long ID = 7L;
+
+    private final TrainerRepository trainerRepository = mock(TrainerRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final TrainerCache trainerCache = mock(TrainerCache.class);
+    private final TrainerService trainerService = new TrainerService(trainerRepository,
+            mock(AnalyticsAggregator.class), trainerCache, mock(TrainerNameIndex.class),
+            mock(TrainerSkillIndex.class), mock(TrainerSummaryReader.class), mock(SkillDictionary.class),
+            eventPublisher, mock(TrainerWriteGeneration.class));
+
+    @Test
+    void rejectsAMoveTheStateMachineForbids() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(Optional.of(snapshot(ApplicationStatus.PENDING, 0L)));
+
+        assertThatThrownBy(() -> trainerService.updateApplicationStatus(ID, ApplicationStatus.HIRED, null))
+                .isInstanceOf(InvalidStatusTransitionException.class)
+                .hasMessageContaining("PENDING")
+                .hasMessageContaining("HIRED");
+        verify(trainerRepository, never()).updateStatusIfVersion(any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void rejectsAStaleIfMatchVersionBeforeUpdating() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(Optional.of(snapshot(ApplicationStatus.PENDING, 4L)));
+
+        assertThatThrownBy(() -> trainerService.updateApplicationStatus(ID, ApplicationStatus.UNDER_REVIEW, 3L))
+                .isInstanceOf(TrainerVersionMismatchException.class);
+        verify(trainerRepository, never()).updateStatusIfVersion(any(), any(), any(), any());
+        // The stale version may have come from this node's cache: the refetch must not get it again
+        verify(trainerCache).invalidate(ID);
+    }
+
+    @Test
+    void leavesTheCurrentStatusAlone() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(Optional.of(snapshot(ApplicationStatus.ON_HOLD, 2L)));
+
+        TrainerStatusChange change = trainerService.updateApplicationStatus(ID, ApplicationStatus.ON_HOLD, null);
+
+        assertThat(change.version()).isEqualTo(2L);
+        verify(trainerRepository, never()).updateStatusIfVersion(any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void retriesOnTheCommittedVersionAfterLosingARace() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(
+                Optional.of(snapshot(ApplicationStatus.PENDING, 0L)),
+                Optional.of(snapshot(ApplicationStatus.PENDING, 1L)));
+        when(trainerRepository.updateStatusIfVersion(eq(ID), eq(ApplicationStatus.UNDER_REVIEW), eq(0L),
+                any(LocalDateTime.class))).thenReturn(0);
+        when(trainerRepository.updateStatusIfVersion(eq(ID), eq(ApplicationStatus.UNDER_REVIEW), eq(1L),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        TrainerStatusChange change = trainerService.updateApplicationStatus(ID, ApplicationStatus.UNDER_REVIEW, null);
+
+        assertThat(change.previousStatus()).isEqualTo(ApplicationStatus.PENDING);
+        assertThat(change.version()).isEqualTo(2L);
+        ArgumentCaptor<TrainerChangeEvent> event = ArgumentCaptor.forClass(TrainerChangeEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(TrainerChangeEvent.Type.STATUS_CHANGED);
+        assertThat(event.getValue().sequence()).isEqualTo(2L);
+    }
+
+    @Test
+    void givesUpWhenTheTrainerKeepsChanging() {
+        when(trainerRepository.findSnapshotById(ID)).thenReturn(Optional.of(snapshot(ApplicationStatus.PENDING, 0L)));
+        when(trainerRepository.updateStatusIfVersion(eq(ID), eq(ApplicationStatus.UNDER_REVIEW), anyLong(),
+                any(LocalDateTime.class))).thenReturn(0);
+
+        assertThatThrownBy(() -> trainerService.updateApplicationStatus(ID, ApplicationStatus.UNDER_REVIEW, null))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static TrainerSnapshot snapshot(ApplicationStatus status, Long version) {
+        return new TrainerSnapshot(ID, "Asha", "Rao", "asha@example.com", status, "Pune", 4, 50000.0, true, version);
+    }
+}
@@ -0,0 +1,75 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.dto.SkillLink;
+import com.cts.trainers_application.dto.SkillMatch;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.entity.Skill;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.repository.SkillRepository;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrainerSkillIndexTest {
+
+    private final SkillRepository skillRepository = mock(SkillRepository.class);
+    private final TrainerWriteGeneration writeGeneration = mock(TrainerWriteGeneration.class);
+
+    @Test
+    void ranksTrainersByHowManyRequestedSkillsTheyHave() {
+        TrainerSkillIndex index = indexOf(
+                new SkillLink(1L, 1), new SkillLink(1L, 2),
+                new SkillLink(2L, 1),
+                new SkillLink(3L, 1), new SkillLink(3L, 2), new SkillLink(3L, 3));
+
+        assertThat(index.match(List.of("Java", "Spring Boot", "Kafka"), 2, 10))
+                .containsExactly(new SkillMatch(3L, 3), new SkillMatch(1L, 2));
+        assertThat(index.match(List.of("java", "Kafka"), 2, 10)).containsExactly(new SkillMatch(3L, 2));
+        // An unknown skill can never be had, so "all of" fails and "any of" ignores it
+        assertThat(index.match(List.of("Java", "Cobol"), 2, 10)).isEmpty();
+        assertThat(index.matchAny(List.of("Kafka", "Cobol")).stream().boxed().toList()).containsExactly(3);
+    }
+
+    @Test
+    void looksSkillsUpByTheirFoldedName() {
+        TrainerSkillIndex index = indexOf(new SkillLink(1L, 4));
+
+        assertThat(index.match(List.of("Café Design"), 1, 10)).containsExactly(new SkillMatch(1L, 1));
+    }
+
+    @Test
+    void unlinksEverySkillWhenTheOldListIsUnknown() {
+        TrainerSkillIndex index = indexOf(new SkillLink(1L, 1), new SkillLink(1L, 2));
+
+        // A delete whose snapshot was read without specializations
+        index.onTrainerChanged(TrainerChangeEvent.deleted(new TrainerSnapshot(1L, "Asha", "Rao", "asha@example.com",
+                ApplicationStatus.PENDING, "Pune", 4, 50000.0, true, 0L)));
+
+        assertThat(index.matchAny(List.of("Java", "Spring Boot")).isEmpty()).isTrue();
+    }
+
+    private TrainerSkillIndex indexOf(SkillLink... links) {
+        when(skillRepository.findAll()).thenReturn(List.of(
+                skill(1, "Java"), skill(2, "Spring Boot"), skill(3, "Kafka"), skill(4, "café design")));
+        when(skillRepository.findLinksAfter(anyLong(), anyInt(), anyInt())).thenReturn(List.of());
+        when(skillRepository.findLinksAfter(0L, 0, 10_000)).thenReturn(List.of(links));
+        TrainerSkillIndex index = new TrainerSkillIndex(skillRepository, writeGeneration, true);
+        index.afterSingletonsInstantiated();
+        return index;
+    }
+
+    // Stored names are lower-cased, but not always accent-folded (see data.sql)
+    private static Skill skill(int id, String displayName) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        skill.setName(displayName.toLowerCase());
+        skill.setDisplayName(displayName);
+        return skill;
+    }
+}
@@ -0,0 +1,132 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.TestcontainersConfiguration;
+import com.cts.trainers_application.dto.BulkStatusTransitionReport;
+import com.cts.trainers_application.dto.BulkStatusTransitionRequest;
+import com.cts.trainers_application.dto.StatusTransitionResult;
+import com.cts.trainers_application.dto.TrainerSearchRequest;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.exception.InvalidTrainerDataException;
+import com.cts.trainers_application.repository.TrainerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.BitSet;
+import java.util.List;
+
+import static com.cts.trainers_application.TrainerFixtures.trainer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+// A chunk size of 2 makes every request below span several chunks
+@DataJpaTest(properties = "trainers.status.bulk.batch-size=2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, TrainerStatusTransitionService.class})
+@Testcontainers(disabledWithoutDocker = true)
+@RecordApplicationEvents
+class TrainerStatusTransitionServiceTest {
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private TrainerStatusTransitionService transitionService;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @MockitoBean
+    private TrainerSearchService trainerSearchService;
+
+    @Test
+    void movesOnlyTrainersWhoseStatusAllowsIt() {
+        Long pending = save("pending@example.com", ApplicationStatus.PENDING);
+        Long hired = save("hired@example.com", ApplicationStatus.HIRED);
+        Long reviewing = save("reviewing@example.com", ApplicationStatus.UNDER_REVIEW);
+        Long onHold = save("onhold@example.com", ApplicationStatus.ON_HOLD);
+
+        BulkStatusTransitionReport report = transitionService.transition(
+                request(ApplicationStatus.UNDER_REVIEW, List.of(hired, pending, -1L, reviewing, pending, onHold)));
+
+        // Request order, duplicates dropped
+        assertThat(report.results())
+                .extracting(StatusTransitionResult::id, StatusTransitionResult::outcome)
+                .containsExactly(
+                        tuple(hired, StatusTransitionResult.Outcome.NOT_ALLOWED),
+                        tuple(pending, StatusTransitionResult.Outcome.UPDATED),
+                        tuple(-1L, StatusTransitionResult.Outcome.NOT_FOUND),
+                        tuple(reviewing, StatusTransitionResult.Outcome.UNCHANGED),
+                        tuple(onHold, StatusTransitionResult.Outcome.UPDATED));
+        assertThat(report.updated()).isEqualTo(2);
+
+        assertThat(snapshot(pending).applicationStatus()).isEqualTo(ApplicationStatus.UNDER_REVIEW);
+        assertThat(snapshot(pending).version()).isEqualTo(1L);
+        assertThat(snapshot(onHold).applicationStatus()).isEqualTo(ApplicationStatus.UNDER_REVIEW);
+        assertThat(snapshot(hired).applicationStatus()).isEqualTo(ApplicationStatus.HIRED);
+        assertThat(snapshot(hired).version()).isZero();
+        assertThat(snapshot(reviewing).version()).isZero();
+
+        // One change event per trainer actually moved
+        assertThat(events.stream(TrainerChangeEvent.class))
+                .extracting(TrainerChangeEvent::trainerId)
+                .containsExactlyInAnyOrder(pending, onHold);
+    }
+
+    @Test
+    void transitionsEveryFilterMatchInIdOrder() {
+        Long first = save("first@example.com", ApplicationStatus.PENDING);
+        Long second = save("second@example.com", ApplicationStatus.PENDING);
+        Long third = save("third@example.com", ApplicationStatus.REJECTED);
+        TrainerSearchRequest filter = new TrainerSearchRequest();
+        BitSet matches = new BitSet();
+        List.of(third, first, second).forEach(id -> matches.set(Math.toIntExact(id)));
+        when(trainerSearchService.matchIds(filter)).thenReturn(matches);
+        BulkStatusTransitionRequest request = request(ApplicationStatus.ON_HOLD, null);
+        request.setFilter(filter);
+
+        BulkStatusTransitionReport report = transitionService.transition(request);
+
+        assertThat(report.results())
+                .extracting(StatusTransitionResult::id, StatusTransitionResult::outcome)
+                .containsExactly(
+                        tuple(first, StatusTransitionResult.Outcome.UPDATED),
+                        tuple(second, StatusTransitionResult.Outcome.UPDATED),
+                        tuple(third, StatusTransitionResult.Outcome.NOT_ALLOWED));
+    }
+
+    @Test
+    void requiresEitherIdsOrAFilter() {
+        assertThatThrownBy(() -> transitionService.transition(request(ApplicationStatus.ON_HOLD, List.of())))
+                .isInstanceOf(InvalidTrainerDataException.class);
+
+        BulkStatusTransitionRequest both = request(ApplicationStatus.ON_HOLD, List.of(1L));
+        both.setFilter(new TrainerSearchRequest());
+        assertThatThrownBy(() -> transitionService.transition(both))
+                .isInstanceOf(InvalidTrainerDataException.class);
+    }
+
+    private Long save(String email, ApplicationStatus status) {
+        return trainerRepository.saveAndFlush(trainer(email, "Pune", 4, status, 50000.0)).getId();
+    }
+
+    private TrainerSnapshot snapshot(Long id) {
+        return trainerRepository.findSnapshotById(id).orElseThrow();
+    }
+
+    private static BulkStatusTransitionRequest request(ApplicationStatus status, List<Long> ids) {
+        BulkStatusTransitionRequest request = new BulkStatusTransitionRequest();
+        request.setStatus(status);
+        request.setIds(ids);
+        return request;
+    }
+}
@@ -0,0 +1,97 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.TestcontainersConfiguration;
+import com.cts.trainers_application.dto.TrainerResponseDTO;
+import com.cts.trainers_application.entity.Trainer;
+import com.cts.trainers_application.entity.TrainerViews;
+import com.cts.trainers_application.repository.TrainerRepository;
+import com.cts.trainers_application.repository.TrainerSortKey;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.cts.trainers_application.TrainerFixtures.trainer;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// List pages are projections plus one batched specializations query, however many rows the page has
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, TrainerSummaryReader.class})
+@Testcontainers(disabledWithoutDocker = true)
+class TrainerSummaryReaderTest {
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    @Autowired
+    private TrainerSummaryReader summaryReader;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Trainer> trainers;
+
+    @BeforeEach
+    void setUp() {
+        trainers = trainerRepository.saveAllAndFlush(IntStream.range(0, 30)
+                .mapToObj(i -> trainer("trainer" + i + "@example.com"))
+                .toList());
+        entityManager.clear();
+    }
+
+    @Test
+    void readsAPageInThreeStatementsWhateverItsSize() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        for (int size : new int[] {10, 25}) {
+            statistics.clear();
+
+            Page<TrainerResponseDTO> page = trainerRepository.findSummaries(
+                    PageRequest.of(0, size, TrainerSortKey.ID.toSort(false)));
+            summaryReader.withSpecializations(page.getContent());
+
+            // Page rows, COUNT, and the specializations of the whole page
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getCollectionLoadCount()).isZero();
+            assertThat(page.getContent()).hasSize(size).allSatisfy(row ->
+                    assertThat(row.getSpecializations()).containsExactlyInAnyOrder("Java", "Spring Boot"));
+        }
+    }
+
+    @Test
+    void readsASummaryPageWithoutTheSpecializationsQuery() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TrainerResponseDTO> rows = summaryReader.find((root, query, cb) -> cb.conjunction(), TrainerSortKey.ID.toSort(false), 10,
+                TrainerViews.Summary.class);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(rows).hasSize(10).allSatisfy(row -> assertThat(row.getSpecializations()).isNullOrEmpty());
+    }
+
+    @Test
+    void returnsRankedIdsInTheGivenOrderAndSkipsMissingOnes() {
+        Long first = trainers.get(7).getId();
+        Long second = trainers.get(2).getId();
+
+        List<TrainerResponseDTO> rows = summaryReader.findInOrder(new ArrayList<>(List.of(first, -1L, second)),
+                TrainerViews.Full.class);
+
+        assertThat(rows).extracting(TrainerResponseDTO::getId).containsExactly(first, second);
+        assertThat(rows).allSatisfy(row -> assertThat(row.getSpecializations()).hasSize(2));
+    }
+}
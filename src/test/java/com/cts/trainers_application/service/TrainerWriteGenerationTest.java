@@ -0,0 +1,72 @@
+package com.cts.trainers_application.service;
+
+import com.cts.trainers_application.TestcontainersConfiguration;
+import com.cts.trainers_application.entity.ApplicationStatus;
+import com.cts.trainers_application.event.TrainerChangeEvent;
+import com.cts.trainers_application.event.TrainerSnapshot;
+import com.cts.trainers_application.repository.WriteGenerationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The shared generation is bumped at commit, so every step runs in its own transaction
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, TrainerWriteGeneration.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TrainerWriteGenerationTest {
+
+    @Autowired
+    private TrainerWriteGeneration writeGeneration;
+
+    @Autowired
+    private WriteGenerationRepository writeGenerationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        writeGenerationRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void movesOncePerCommittedTransactionAndNotOnRollback() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        String initial = writeGeneration.current();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(TrainerChangeEvent.created(snapshot(1L)));
+            eventPublisher.publishEvent(TrainerChangeEvent.created(snapshot(2L)));
+        });
+        String afterCommit = writeGeneration.current();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(TrainerChangeEvent.created(snapshot(3L)));
+            status.setRollbackOnly();
+        });
+
+        assertThat(Long.parseLong(afterCommit)).isEqualTo(Long.parseLong(initial) + 1);
+        assertThat(writeGeneration.current()).isEqualTo(afterCommit);
+    }
+
+    private static TrainerSnapshot snapshot(Long id) {
+        return new TrainerSnapshot(id, "Asha", "Rao", "asha" + id + "@example.com", ApplicationStatus.PENDING,
+                "Pune", 4, 50000.0, true, 0L);
+    }
+}